@@ -0,0 +1,41 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+    id("io.spring.dependency-management") version "1.1.5"
+}
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.2.5")
+    }
+}
+
+dependencies {
+    jmh(project(":orders-service"))
+    jmh("org.springframework:spring-web")
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("org.apache.kafka:kafka-clients")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(2)
+    warmupIterations.set(5)
+    warmup.set("1s")
+    iterations.set(10)
+    timeOnIteration.set("1s")
+    jvmArgs.set(listOf("-Xms1g", "-Xmx1g", "-XX:+UseG1GC"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,103 @@
+package hse.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.BinaryEventCodec;
+import hse.codec.EncodedEvent;
+import hse.codec.EventCodec;
+import hse.codec.EventCodecs;
+import hse.codec.JsonEventCodec;
+import hse.event.OrderCreatedEvent;
+import hse.event.PaymentProcessedEvent;
+import hse.model.Money;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderEventCodecBenchmark {
+    private ObjectMapper objectMapper;
+    private EventCodecs jsonCodecs;
+    private EventCodecs binaryCodecs;
+    private OrderCreatedEvent orderCreated;
+    private EncodedEvent paymentProcessedJson;
+    private EncodedEvent paymentProcessedBinary;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<EventCodec> codecs = List.of(new JsonEventCodec(objectMapper), new BinaryEventCodec());
+        jsonCodecs = new EventCodecs(codecs, "json");
+        binaryCodecs = new EventCodecs(codecs, "binary");
+
+        Random random = new Random(42);
+        orderCreated = new OrderCreatedEvent(
+                new UUID(random.nextLong(), random.nextLong()),
+                new UUID(random.nextLong(), random.nextLong()),
+                Money.ofMinor(123_456));
+        PaymentProcessedEvent paymentProcessed = new PaymentProcessedEvent(
+                orderCreated.id(),
+                orderCreated.userId(),
+                orderCreated.amount(),
+                new UUID(random.nextLong(), random.nextLong()),
+                "FAILURE",
+                "INSUFFICIENT_FUNDS");
+        paymentProcessedJson = jsonCodecs.encode(paymentProcessed);
+        paymentProcessedBinary = binaryCodecs.encode(paymentProcessed);
+    }
+
+    @Benchmark
+    public EncodedEvent encodeOrderCreatedJson(PayloadSize payloadSize) {
+        EncodedEvent encoded = jsonCodecs.encode(orderCreated);
+        payloadSize.payloadBytes = encoded.payload().length;
+        return encoded;
+    }
+
+    @Benchmark
+    public EncodedEvent encodeOrderCreatedBinary(PayloadSize payloadSize) {
+        EncodedEvent encoded = binaryCodecs.encode(orderCreated);
+        payloadSize.payloadBytes = encoded.payload().length;
+        return encoded;
+    }
+
+    @Benchmark
+    public PaymentProcessedEvent decodePaymentProcessedJsonTwoPass() throws IOException {
+        JsonNode rootNode = objectMapper.readTree(paymentProcessedJson.payload());
+        if (!rootNode.get("paymentStatus").isTextual()) {
+            throw new IllegalStateException("paymentStatus is missing");
+        }
+        return objectMapper.readValue(paymentProcessedJson.payload(), PaymentProcessedEvent.class);
+    }
+
+    @Benchmark
+    public PaymentProcessedEvent decodePaymentProcessedJson() {
+        return jsonCodecs.decode(paymentProcessedJson.payload(), paymentProcessedJson.contentType(),
+                paymentProcessedJson.schemaVersion(), PaymentProcessedEvent.class);
+    }
+
+    @Benchmark
+    public PaymentProcessedEvent decodePaymentProcessedBinary() {
+        return binaryCodecs.decode(paymentProcessedBinary.payload(), paymentProcessedBinary.contentType(),
+                paymentProcessedBinary.schemaVersion(), PaymentProcessedEvent.class);
+    }
+}
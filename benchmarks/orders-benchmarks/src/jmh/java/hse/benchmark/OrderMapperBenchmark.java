@@ -0,0 +1,81 @@
+package hse.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.dto.OrderDto;
+import hse.dto.OrderMapper;
+import hse.model.Money;
+import hse.model.OrderEntity;
+import hse.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderMapperBenchmark {
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<OrderEntity> orders;
+    private List<OrderDto> dtos;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Random random = new Random(42);
+        UUID userId = new UUID(random.nextLong(), random.nextLong());
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        OrderStatus[] statuses = OrderStatus.values();
+
+        orders = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            orders.add(OrderEntity.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .userId(userId)
+                    .amount(Money.ofMinor(random.nextInt(1_000_000) + 1))
+                    .description("Order #" + i)
+                    .status(statuses[i % statuses.length])
+                    .createdAt(createdAt.minusSeconds(i))
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        dtos = orders.stream().map(OrderMapper::toDto).toList();
+        out = new ByteArrayOutputStream(pageSize * 256);
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) {
+        for (OrderEntity order : orders) {
+            blackhole.consume(OrderMapper.toDto(order));
+        }
+    }
+
+    @Benchmark
+    public int writeNdjsonPage() throws IOException {
+        out.reset();
+        for (OrderDto dto : dtos) {
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write('\n');
+        }
+        return out.size();
+    }
+}
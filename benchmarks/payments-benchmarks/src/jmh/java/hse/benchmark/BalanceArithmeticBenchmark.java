@@ -0,0 +1,100 @@
+package hse.benchmark;
+
+import hse.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BalanceArithmeticBenchmark {
+    @Param({"500"})
+    private int orders;
+
+    @Param({"10", "500"})
+    private int accounts;
+
+    private UUID[] accountIds;
+    private UUID[] orderUserIds;
+    private Money[] orderAmounts;
+    private BigDecimal[] orderDecimalAmounts;
+    private Map<UUID, Money> initialBalances;
+    private Map<UUID, BigDecimal> initialDecimalBalances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        accountIds = new UUID[accounts];
+        initialBalances = new HashMap<>();
+        initialDecimalBalances = new HashMap<>();
+        for (int i = 0; i < accounts; i++) {
+            accountIds[i] = new UUID(random.nextLong(), random.nextLong());
+            Money balance = Money.ofMinor(random.nextInt(5_000_000));
+            initialBalances.put(accountIds[i], balance);
+            initialDecimalBalances.put(accountIds[i], balance.toBigDecimal());
+        }
+
+        orderUserIds = new UUID[orders];
+        orderAmounts = new Money[orders];
+        orderDecimalAmounts = new BigDecimal[orders];
+        for (int i = 0; i < orders; i++) {
+            orderUserIds[i] = accountIds[random.nextInt(accounts)];
+            orderAmounts[i] = Money.ofMinor(random.nextInt(100_000) + 1);
+            orderDecimalAmounts[i] = orderAmounts[i].toBigDecimal();
+        }
+    }
+
+    @Benchmark
+    public Map<UUID, Money> debitBatchMoney() {
+        Map<UUID, Money> balances = new HashMap<>(initialBalances);
+        Map<UUID, Money> debits = new HashMap<>();
+        for (int i = 0; i < orders; i++) {
+            UUID userId = orderUserIds[i];
+            Money amount = orderAmounts[i];
+            Money balance = balances.get(userId);
+            if (!balance.isLessThan(amount)) {
+                balances.put(userId, balance.minus(amount));
+                debits.merge(userId, amount, Money::plus);
+            }
+        }
+        return debits;
+    }
+
+    @Benchmark
+    public Map<UUID, BigDecimal> debitBatchBigDecimal() {
+        Map<UUID, BigDecimal> balances = new HashMap<>(initialDecimalBalances);
+        Map<UUID, BigDecimal> debits = new HashMap<>();
+        for (int i = 0; i < orders; i++) {
+            UUID userId = orderUserIds[i];
+            BigDecimal amount = orderDecimalAmounts[i];
+            BigDecimal balance = balances.get(userId);
+            if (balance.compareTo(amount) >= 0) {
+                balances.put(userId, balance.subtract(amount));
+                debits.merge(userId, amount, BigDecimal::add);
+            }
+        }
+        return debits;
+    }
+
+    @Benchmark
+    public Money parseDatabaseBalance() {
+        Money total = Money.ZERO;
+        for (BigDecimal amount : orderDecimalAmounts) {
+            total = total.plus(Money.of(amount));
+        }
+        return total;
+    }
+}
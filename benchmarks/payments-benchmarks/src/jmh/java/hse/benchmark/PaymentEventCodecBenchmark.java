@@ -0,0 +1,91 @@
+package hse.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.BinaryEventCodec;
+import hse.codec.EncodedEvent;
+import hse.codec.EventCodec;
+import hse.codec.EventCodecs;
+import hse.codec.JsonEventCodec;
+import hse.event.OrderCreatedEvent;
+import hse.event.PaymentProcessedEvent;
+import hse.model.Money;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentEventCodecBenchmark {
+    private EventCodecs jsonCodecs;
+    private EventCodecs binaryCodecs;
+    private PaymentProcessedEvent paymentProcessed;
+    private EncodedEvent orderCreatedJson;
+    private EncodedEvent orderCreatedBinary;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<EventCodec> codecs = List.of(new JsonEventCodec(objectMapper), new BinaryEventCodec());
+        jsonCodecs = new EventCodecs(codecs, "json");
+        binaryCodecs = new EventCodecs(codecs, "binary");
+
+        Random random = new Random(42);
+        OrderCreatedEvent orderCreated = new OrderCreatedEvent(
+                new UUID(random.nextLong(), random.nextLong()),
+                new UUID(random.nextLong(), random.nextLong()),
+                Money.ofMinor(123_456));
+        paymentProcessed = new PaymentProcessedEvent(
+                orderCreated.id(),
+                orderCreated.userId(),
+                orderCreated.amount(),
+                new UUID(random.nextLong(), random.nextLong()),
+                "SUCCESS",
+                null);
+        orderCreatedJson = jsonCodecs.encode(orderCreated);
+        orderCreatedBinary = binaryCodecs.encode(orderCreated);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeOrderCreatedJson() {
+        return jsonCodecs.decode(orderCreatedJson.payload(), orderCreatedJson.contentType(),
+                orderCreatedJson.schemaVersion(), OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeOrderCreatedBinary() {
+        return binaryCodecs.decode(orderCreatedBinary.payload(), orderCreatedBinary.contentType(),
+                orderCreatedBinary.schemaVersion(), OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public EncodedEvent encodePaymentProcessedJson(PayloadSize payloadSize) {
+        EncodedEvent encoded = jsonCodecs.encode(paymentProcessed);
+        payloadSize.payloadBytes = encoded.payload().length;
+        return encoded;
+    }
+
+    @Benchmark
+    public EncodedEvent encodePaymentProcessedBinary(PayloadSize payloadSize) {
+        EncodedEvent encoded = binaryCodecs.encode(paymentProcessed);
+        payloadSize.payloadBytes = encoded.payload().length;
+        return encoded;
+    }
+}
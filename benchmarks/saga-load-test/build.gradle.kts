@@ -0,0 +1,52 @@
+plugins {
+    java
+    application
+    id("io.spring.dependency-management") version "1.1.5"
+}
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.2.5")
+    }
+}
+
+evaluationDependsOn(":orders-service")
+evaluationDependsOn(":payments-service")
+
+dependencies {
+    implementation("org.springframework.kafka:spring-kafka-test")
+    implementation("io.zonky.test:embedded-postgres:2.0.7")
+    implementation("org.hdrhistogram:HdrHistogram:2.1.12")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("ch.qos.logback:logback-classic")
+
+    compileOnly("org.projectlombok:lombok")
+
+    annotationProcessor("org.projectlombok:lombok")
+}
+
+application {
+    mainClass.set("hse.loadtest.SagaLoadTest")
+}
+
+val ordersBootJar = project(":orders-service").tasks.named<Jar>("bootJar").flatMap { it.archiveFile }
+val paymentsBootJar = project(":payments-service").tasks.named<Jar>("bootJar").flatMap { it.archiveFile }
+
+tasks.named<JavaExec>("run") {
+    dependsOn(":orders-service:bootJar", ":payments-service:bootJar")
+    doFirst {
+        systemProperty("loadtest.orders-jar", ordersBootJar.get().asFile.absolutePath)
+        systemProperty("loadtest.payments-jar", paymentsBootJar.get().asFile.absolutePath)
+        systemProperty("loadtest.output-dir", layout.buildDirectory.dir("saga-load-test").get().asFile.absolutePath)
+    }
+}
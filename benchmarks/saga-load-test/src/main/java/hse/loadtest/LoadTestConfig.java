@@ -0,0 +1,103 @@
+package hse.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record LoadTestConfig(
+        int users,
+        BigDecimal initialBalance,
+        int operations,
+        int warmupOperations,
+        int concurrency,
+        double rate,
+        double topUpRatio,
+        BigDecimal minOrderAmount,
+        BigDecimal maxOrderAmount,
+        BigDecimal topUpAmount,
+        Duration awaitTimeout,
+        Duration sagaTimeout,
+        Duration startupTimeout,
+        boolean virtualThreads,
+        int partitions,
+        List<String> serviceJvmArgs,
+        Path ordersJar,
+        Path paymentsJar,
+        Path outputDir,
+        double maxP99Millis
+) {
+    private static final Set<String> OPTIONS = Set.of(
+            "users", "initial-balance", "operations", "warmup-operations", "concurrency", "rate",
+            "top-up-ratio", "min-order-amount", "max-order-amount", "top-up-amount", "await-timeout-seconds",
+            "saga-timeout-seconds", "startup-timeout-seconds", "virtual-threads", "partitions",
+            "service-jvm-args", "orders-jar", "payments-jar", "output-dir", "max-p99-ms");
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ". Supported options: " + OPTIONS);
+            }
+            options.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("users", "200")),
+                new BigDecimal(options.getOrDefault("initial-balance", "10000.00")),
+                Integer.parseInt(options.getOrDefault("operations", "20000")),
+                Integer.parseInt(options.getOrDefault("warmup-operations", "2000")),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                Double.parseDouble(options.getOrDefault("top-up-ratio", "0.1")),
+                new BigDecimal(options.getOrDefault("min-order-amount", "1.00")),
+                new BigDecimal(options.getOrDefault("max-order-amount", "100.00")),
+                new BigDecimal(options.getOrDefault("top-up-amount", "500.00")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("await-timeout-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("saga-timeout-seconds", "120"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("startup-timeout-seconds", "180"))),
+                Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false")),
+                Integer.parseInt(options.getOrDefault("partitions", "6")),
+                Arrays.stream(options.getOrDefault("service-jvm-args", "-Xms512m -Xmx1g").split("\\s+"))
+                        .filter(jvmArg -> !jvmArg.isBlank())
+                        .toList(),
+                requiredPath(options, "orders-jar"),
+                requiredPath(options, "payments-jar"),
+                Path.of(options.getOrDefault("output-dir",
+                        System.getProperty("loadtest.output-dir", "build/saga-load-test"))),
+                Double.parseDouble(options.getOrDefault("max-p99-ms", "0")));
+        config.validate();
+        return config;
+    }
+
+    private static Path requiredPath(Map<String, String> options, String name) {
+        String value = options.getOrDefault(name, System.getProperty("loadtest." + name));
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name + " (or -Dloadtest." + name + ")");
+        }
+        return Path.of(value);
+    }
+
+    private void validate() {
+        if (users <= 0 || operations <= 0 || warmupOperations < 0 || concurrency <= 0 || partitions <= 0) {
+            throw new IllegalArgumentException("users, operations, concurrency and partitions have to be positive");
+        }
+        if (rate < 0 || topUpRatio < 0 || topUpRatio > 1) {
+            throw new IllegalArgumentException("rate has to be non-negative and top-up-ratio within [0, 1]");
+        }
+        if (minOrderAmount.signum() <= 0 || maxOrderAmount.compareTo(minOrderAmount) < 0) {
+            throw new IllegalArgumentException("Order amounts have to be positive and min <= max");
+        }
+        if (minOrderAmount.stripTrailingZeros().scale() > 2 || maxOrderAmount.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Order amounts cannot have more than 2 decimal places");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package hse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public final class LoadTestEnvironment implements AutoCloseable {
+    private static final String DB_USER = "postgres";
+    private static final String DB_NAME = "postgres";
+
+    private final Deque<AutoCloseable> resources = new ArrayDeque<>();
+    private HttpClient httpClient;
+    private SagaClient client;
+
+    private LoadTestEnvironment() {
+    }
+
+    public static LoadTestEnvironment start(LoadTestConfig config) throws Exception {
+        LoadTestEnvironment environment = new LoadTestEnvironment();
+        try {
+            environment.startAll(config);
+            return environment;
+        } catch (Exception e) {
+            environment.close();
+            throw e;
+        }
+    }
+
+    public SagaClient client() {
+        return client;
+    }
+
+    private void startAll(LoadTestConfig config) throws Exception {
+        Files.createDirectories(config.outputDir());
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, config.partitions(),
+                "order.created", "payment.processed");
+        kafka.afterPropertiesSet();
+        resources.push(kafka::destroy);
+        log.info("Embedded Kafka is listening on {}", kafka.getBrokersAsString());
+
+        EmbeddedPostgres ordersDb = startPostgres("orders");
+        EmbeddedPostgres paymentsDb = startPostgres("payments");
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        ServiceProcess payments = startService(config, "payments-service", config.paymentsJar(),
+                paymentsDb, kafka.getBrokersAsString());
+        ServiceProcess orders = startService(config, "orders-service", config.ordersJar(),
+                ordersDb, kafka.getBrokersAsString());
+        payments.awaitHealthy(httpClient, config.startupTimeout());
+        orders.awaitHealthy(httpClient, config.startupTimeout());
+
+        client = new SagaClient(httpClient, new ObjectMapper(), orders.baseUrl(), payments.baseUrl());
+    }
+
+    private EmbeddedPostgres startPostgres(String name) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        resources.push(postgres);
+        log.info("Embedded Postgres for {} is listening on port {}", name, postgres.getPort());
+        return postgres;
+    }
+
+    private ServiceProcess startService(LoadTestConfig config, String name, Path jar,
+                                        EmbeddedPostgres database, String bootstrapServers) throws IOException {
+        ServiceProcess service = ServiceProcess.start(name, jar, config.serviceJvmArgs(), List.of(
+                        "--spring.datasource.url=" + database.getJdbcUrl(DB_USER, DB_NAME),
+                        "--spring.datasource.username=" + DB_USER,
+                        "--spring.datasource.password=" + DB_USER,
+                        "--spring.kafka.bootstrap-servers=" + bootstrapServers,
+                        "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                        "--kafka.topics.order-created.partitions=" + config.partitions(),
+                        "--kafka.topics.payment-processed.partitions=" + config.partitions(),
+                        "--management.tracing.enabled=false",
+                        "--logging.level.hse=WARN"),
+                config.outputDir().resolve(name + ".log"));
+        resources.push(service);
+        return service;
+    }
+
+    @Override
+    public void close() throws Exception {
+        Exception failure = null;
+        while (!resources.isEmpty()) {
+            try {
+                resources.pop().close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (httpClient != null) {
+            httpClient.shutdownNow();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package hse.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+public record LoadTestResult(
+        LoadTestConfig config,
+        int operations,
+        long elapsedNanos,
+        Histogram sagaLatency,
+        Histogram topUpLatency,
+        long finished,
+        long cancelled,
+        long timedOut,
+        long failed
+) {
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public long sagas() {
+        return finished + cancelled + timedOut;
+    }
+
+    public double sagaThroughput() {
+        return sagas() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public double sagaPercentileMillis(double percentile) {
+        return sagaLatency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    public boolean passes() {
+        if (config.maxP99Millis() <= 0) {
+            return true;
+        }
+        return timedOut == 0 && failed == 0 && sagaPercentileMillis(99.0) <= config.maxP99Millis();
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nSaga load test: %d operations in %.1f s (virtual threads: %s, concurrency: %d, rate: %s)%n",
+                operations,
+                elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+                config.virtualThreads(),
+                config.concurrency(),
+                config.rate() > 0 ? config.rate() + "/s" : "unthrottled");
+        out.printf("Sagas: %d (finished %d, cancelled %d, timed out %d), failed operations: %d, throughput: %.1f/s%n",
+                sagas(), finished, cancelled, timedOut, failed, sagaThroughput());
+        out.printf("Saga latency, ms: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                sagaPercentileMillis(50.0),
+                sagaPercentileMillis(99.0),
+                sagaPercentileMillis(99.9),
+                sagaLatency.getMaxValue() / MICROS_PER_MILLI);
+        out.printf("Top-ups: %d, latency, ms: p50 %.2f, p99 %.2f%n",
+                topUpLatency.getTotalCount(),
+                topUpLatency.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                topUpLatency.getValueAtPercentile(99.0) / MICROS_PER_MILLI);
+        if (config.maxP99Millis() > 0) {
+            out.printf("Release gate (p99 <= %.1f ms, no timeouts or failures): %s%n",
+                    config.maxP99Millis(), passes() ? "PASSED" : "FAILED");
+        }
+    }
+
+    public void writeHistograms(Path outputDir) throws IOException {
+        write(sagaLatency, outputDir.resolve("saga-latency.hgrm"));
+        write(topUpLatency, outputDir.resolve("top-up-latency.hgrm"));
+    }
+
+    private static void write(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(file.toFile())) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
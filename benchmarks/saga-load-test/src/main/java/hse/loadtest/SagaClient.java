@@ -0,0 +1,66 @@
+package hse.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+public final class SagaClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String ordersUrl;
+    private final String paymentsUrl;
+
+    public SagaClient(HttpClient httpClient, ObjectMapper objectMapper, String ordersUrl, String paymentsUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.ordersUrl = ordersUrl;
+        this.paymentsUrl = paymentsUrl;
+    }
+
+    public void createAccount(UUID userId) throws IOException, InterruptedException {
+        post(paymentsUrl + "/api/accounts/create/" + userId);
+    }
+
+    public void topUp(UUID userId, BigDecimal amount) throws IOException, InterruptedException {
+        post(paymentsUrl + "/api/accounts/top-up/" + userId + "/" + amount.toPlainString());
+    }
+
+    public UUID createOrder(UUID userId, BigDecimal amount) throws IOException, InterruptedException {
+        String body = post(ordersUrl + "/api/orders/create/" + userId + "/" + amount.toPlainString() + "/load-test");
+        return UUID.fromString(objectMapper.readTree(body).get("id").asText());
+    }
+
+    public String awaitStatus(UUID orderId, Duration timeout) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(ordersUrl + "/api/orders/" + orderId + "/await?timeout=" + timeout.toSeconds()))
+                .timeout(timeout.plus(REQUEST_TIMEOUT))
+                .GET()
+                .build();
+        return objectMapper.readValue(send(request), String.class);
+    }
+
+    private String post(String url) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,152 @@
+package hse.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public final class SagaLoadRunner {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadTestConfig config;
+    private final SagaClient client;
+    private final List<UUID> userIds = new ArrayList<>();
+
+    public SagaLoadRunner(LoadTestConfig config, SagaClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    public void seedAccounts() throws Exception {
+        for (int i = 0; i < config.users(); i++) {
+            userIds.add(UUID.randomUUID());
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(userIds.size());
+            for (UUID userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    client.createAccount(userId);
+                    client.topUp(userId, config.initialBalance());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        log.info("Created {} accounts with a balance of {}", userIds.size(), config.initialBalance());
+    }
+
+    public LoadTestResult run(int operations) throws InterruptedException {
+        Run run = new Run(operations);
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                executor.execute(() -> run.work(startNanos));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return new LoadTestResult(
+                config,
+                operations,
+                elapsedNanos,
+                run.sagaLatency,
+                run.topUpLatency,
+                run.finished.sum(),
+                run.cancelled.sum(),
+                run.timedOut.sum(),
+                run.failed.sum());
+    }
+
+    private final class Run {
+        private final int operations;
+        private final long intervalNanos;
+        private final AtomicLong nextOperation = new AtomicLong();
+        private final Histogram sagaLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram topUpLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder finished = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Run(int operations) {
+            this.operations = operations;
+            this.intervalNanos = config.rate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / config.rate()) : 0;
+        }
+
+        private void work(long startNanos) {
+            long operation;
+            while ((operation = nextOperation.getAndIncrement()) < operations) {
+                long intendedStartNanos = intervalNanos > 0 ? startNanos + operation * intervalNanos : System.nanoTime();
+                parkUntil(intendedStartNanos);
+
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                UUID userId = userIds.get(random.nextInt(userIds.size()));
+                try {
+                    if (random.nextDouble() < config.topUpRatio()) {
+                        client.topUp(userId, config.topUpAmount());
+                        record(topUpLatency, intendedStartNanos);
+                    } else {
+                        runSaga(userId, randomAmount(random), intendedStartNanos);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    failed.increment();
+                    log.warn("Operation {} failed: {}", operation, e.getMessage());
+                }
+            }
+        }
+
+        private void runSaga(UUID userId, BigDecimal amount, long intendedStartNanos) throws Exception {
+            UUID orderId = client.createOrder(userId, amount);
+            long deadline = intendedStartNanos + config.sagaTimeout().toNanos();
+            String status = "NEW";
+            while ("NEW".equals(status) && System.nanoTime() < deadline) {
+                status = client.awaitStatus(orderId, config.awaitTimeout());
+            }
+            record(sagaLatency, intendedStartNanos);
+
+            switch (status) {
+                case "FINISHED" -> finished.increment();
+                case "CANCELLED" -> cancelled.increment();
+                default -> timedOut.increment();
+            }
+        }
+
+        private BigDecimal randomAmount(ThreadLocalRandom random) {
+            long min = config.minOrderAmount().movePointRight(2).longValueExact();
+            long max = config.maxOrderAmount().movePointRight(2).longValueExact();
+            return BigDecimal.valueOf(random.nextLong(min, max + 1), 2);
+        }
+
+        private void record(Histogram histogram, long intendedStartNanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+            histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+
+        private void parkUntil(long deadlineNanos) {
+            long remaining;
+            while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+}
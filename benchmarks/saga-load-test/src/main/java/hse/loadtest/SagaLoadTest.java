@@ -0,0 +1,33 @@
+package hse.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class SagaLoadTest {
+    private SagaLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        boolean passed;
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config)) {
+            SagaLoadRunner runner = new SagaLoadRunner(config, environment.client());
+            runner.seedAccounts();
+
+            if (config.warmupOperations() > 0) {
+                log.info("Warming up with {} operations", config.warmupOperations());
+                runner.run(config.warmupOperations());
+            }
+
+            log.info("Running {} operations with concurrency {}", config.operations(), config.concurrency());
+            LoadTestResult result = runner.run(config.operations());
+            result.print(System.out);
+            result.writeHistograms(config.outputDir());
+            log.info("Latency distributions written to {}", config.outputDir().toAbsolutePath());
+            passed = result.passes();
+        }
+
+        System.exit(passed ? 0 : 1);
+    }
+}
@@ -0,0 +1,66 @@
+-- Insert throughput and primary-key index size: random UUIDv4 vs time-ordered UUIDv7 order ids.
+-- Run against a scratch database: psql -d <db> -f benchmarks/sql/order_id_insert_benchmark.sql
+-- Adjust :rows for a larger table; the interesting effects show once the index outgrows shared_buffers.
+
+\set ON_ERROR_STOP on
+\set rows 5000000
+\timing on
+
+DROP SCHEMA IF EXISTS order_id_bench CASCADE;
+CREATE SCHEMA order_id_bench;
+SET search_path TO order_id_bench;
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+-- Same layout as hse.model.UuidV7: 48-bit unix millis, version 7, random tail.
+CREATE FUNCTION uuid_v7() RETURNS UUID AS $$
+    SELECT encode(
+            set_bit(set_bit(
+                    overlay(uuid_send(gen_random_uuid())
+                            PLACING substring(int8send(floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                            FROM 1 FOR 6),
+                    52, 1), 53, 1),
+            'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE order_v4 (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE order_v7 (LIKE order_v4 INCLUDING ALL);
+
+\echo '=== INSERT with random UUIDv4 ids ==='
+INSERT INTO order_v4 (id, user_id, amount)
+SELECT gen_random_uuid(), gen_random_uuid(), 100
+FROM generate_series(1, :rows);
+
+\echo '=== INSERT with time-ordered UUIDv7 ids ==='
+INSERT INTO order_v7 (id, user_id, amount)
+SELECT uuid_v7(), gen_random_uuid(), 100
+FROM generate_series(1, :rows);
+
+\echo '=== Primary-key index size and leaf density ==='
+SELECT 'v4' AS scheme,
+       pg_size_pretty(pg_relation_size('order_v4_pkey')) AS index_size,
+       (pgstatindex('order_v4_pkey')).avg_leaf_density,
+       (pgstatindex('order_v4_pkey')).leaf_fragmentation
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('order_v7_pkey')),
+       (pgstatindex('order_v7_pkey')).avg_leaf_density,
+       (pgstatindex('order_v7_pkey')).leaf_fragmentation;
+
+\echo '=== Incremental batch of 100k inserts into the full tables ==='
+INSERT INTO order_v4 (id, user_id, amount)
+SELECT gen_random_uuid(), gen_random_uuid(), 100
+FROM generate_series(1, 100000);
+
+INSERT INTO order_v7 (id, user_id, amount)
+SELECT uuid_v7(), gen_random_uuid(), 100
+FROM generate_series(1, 100000);
+
+RESET search_path;
+DROP SCHEMA order_id_bench CASCADE;
@@ -0,0 +1,91 @@
+-- Before/after query plans for the order_table access paths.
+-- Run against a scratch database: psql -d <db> -f benchmarks/sql/order_table_query_plans.sql
+-- Everything is created in the order_plans schema and dropped at the end.
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS order_plans CASCADE;
+CREATE SCHEMA order_plans;
+SET search_path TO order_plans;
+
+CREATE TYPE order_status AS ENUM ('NEW', 'FINISHED', 'CANCELLED');
+
+CREATE TABLE order_table (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    description TEXT,
+    status order_status NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP
+);
+
+-- 2M orders spread over 20k users and 180 days, ~5% of them still NEW.
+INSERT INTO order_table (id, user_id, amount, description, status, created_at)
+SELECT gen_random_uuid(),
+       ('00000000-0000-0000-0000-' || lpad(to_hex((n % 20000) + 1), 12, '0'))::uuid,
+       round((random() * 1000)::numeric, 2),
+       'seeded order ' || n,
+       CASE WHEN random() < 0.05 THEN 'NEW'
+            WHEN random() < 0.9 THEN 'FINISHED'
+            ELSE 'CANCELLED' END::order_status,
+       NOW() - random() * INTERVAL '180 days'
+FROM generate_series(1, 2000000) AS n;
+
+ANALYZE order_table;
+
+\echo '=== BEFORE: user orders, newest first ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE user_id = '00000000-0000-0000-0000-000000000042'
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+\echo '=== BEFORE: user orders filtered by status and time range ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE user_id = '00000000-0000-0000-0000-000000000042'
+  AND status = 'FINISHED'
+  AND created_at >= NOW() - INTERVAL '30 days' AND created_at < NOW()
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+\echo '=== BEFORE: all NEW orders, newest first ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE status = 'NEW'
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+CREATE INDEX idx_order_table_created_at_id ON order_table (created_at, id);
+CREATE INDEX idx_order_table_user_id_created_at_id ON order_table (user_id, created_at, id);
+CREATE INDEX idx_order_table_status_created_at_id ON order_table (status, created_at, id);
+ANALYZE order_table;
+
+\echo '=== AFTER: user orders, newest first ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE user_id = '00000000-0000-0000-0000-000000000042'
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+\echo '=== AFTER: user orders filtered by status and time range ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE user_id = '00000000-0000-0000-0000-000000000042'
+  AND status = 'FINISHED'
+  AND created_at >= NOW() - INTERVAL '30 days' AND created_at < NOW()
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+\echo '=== AFTER: all NEW orders, newest first ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE status = 'NEW'
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+\echo '=== AFTER: keyset continuation of the user listing ==='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table
+WHERE user_id = '00000000-0000-0000-0000-000000000042'
+  AND (created_at, id) < (NOW() - INTERVAL '90 days', '00000000-0000-0000-0000-000000000000')
+ORDER BY created_at DESC, id DESC LIMIT 51;
+
+RESET search_path;
+DROP SCHEMA order_plans CASCADE;
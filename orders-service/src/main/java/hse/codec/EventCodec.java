@@ -0,0 +1,13 @@
+package hse.codec;
+
+public interface EventCodec {
+    String name();
+
+    String contentType();
+
+    int schemaVersion(Class<?> eventType);
+
+    byte[] encode(Object event);
+
+    <T> T decode(byte[] payload, int schemaVersion, Class<T> eventType);
+}
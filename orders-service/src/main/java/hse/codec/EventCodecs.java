@@ -0,0 +1,81 @@
+package hse.codec;
+
+import hse.exception.EventCodecException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class EventCodecs {
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String SCHEMA_VERSION_HEADER = "schema-version";
+    private static final int DEFAULT_SCHEMA_VERSION = 1;
+
+    private final Map<String, EventCodec> codecsByContentType = new HashMap<>();
+    private final EventCodec writeCodec;
+
+    public EventCodecs(List<EventCodec> codecs, @Value("${events.codec:json}") String codecName) {
+        codecs.forEach(codec -> codecsByContentType.put(codec.contentType(), codec));
+        this.writeCodec = codecs.stream()
+                .filter(codec -> codec.name().equals(codecName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown event codec: " + codecName));
+    }
+
+    public EncodedEvent encode(Object event) {
+        return new EncodedEvent(
+                writeCodec.encode(event),
+                writeCodec.contentType(),
+                writeCodec.schemaVersion(event.getClass()));
+    }
+
+    public <T> T decode(ConsumerRecord<String, byte[]> consumerRecord, Class<T> eventType) {
+        return decode(consumerRecord.value(),
+                contentType(consumerRecord),
+                schemaVersion(consumerRecord),
+                eventType);
+    }
+
+    public <T> T decode(byte[] payload, String contentType, int schemaVersion, Class<T> eventType) {
+        EventCodec codec = codecsByContentType.get(contentType != null ? contentType : JsonEventCodec.CONTENT_TYPE);
+        if (codec == null) {
+            throw new EventCodecException("Unsupported event content type: " + contentType);
+        }
+        return codec.decode(payload, schemaVersion, eventType);
+    }
+
+    public String contentType(ConsumerRecord<String, byte[]> consumerRecord) {
+        String contentType = headerValue(consumerRecord.headers(), CONTENT_TYPE_HEADER);
+        return contentType != null ? contentType : JsonEventCodec.CONTENT_TYPE;
+    }
+
+    public int schemaVersion(ConsumerRecord<String, byte[]> consumerRecord) {
+        String schemaVersion = headerValue(consumerRecord.headers(), SCHEMA_VERSION_HEADER);
+        if (schemaVersion == null) {
+            return DEFAULT_SCHEMA_VERSION;
+        }
+
+        try {
+            return Integer.parseInt(schemaVersion);
+        } catch (NumberFormatException e) {
+            throw new EventCodecException("Malformed schema version header: " + schemaVersion, e);
+        }
+    }
+
+    public static void addHeaders(Headers headers, String contentType, int schemaVersion) {
+        headers.add(CONTENT_TYPE_HEADER, contentType.getBytes(StandardCharsets.UTF_8));
+        headers.add(SCHEMA_VERSION_HEADER, Integer.toString(schemaVersion).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String headerValue(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
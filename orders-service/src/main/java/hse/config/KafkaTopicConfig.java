@@ -0,0 +1,28 @@
+package hse.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+    @Bean
+    public NewTopic orderCreatedTopic(@Value("${kafka.topics.order-created.partitions:6}") int partitions,
+                                      @Value("${kafka.topics.order-created.replicas:1}") int replicas) {
+        return TopicBuilder.name("order.created")
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic paymentProcessedTopic(@Value("${kafka.topics.payment-processed.partitions:6}") int partitions,
+                                          @Value("${kafka.topics.payment-processed.replicas:1}") int replicas) {
+        return TopicBuilder.name("payment.processed")
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
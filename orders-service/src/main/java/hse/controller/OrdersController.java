@@ -1,20 +1,35 @@
 package hse.controller;
 
+import hse.dto.CreateOrderRequest;
+import hse.dto.OrderBatchItemResult;
 import hse.dto.OrderDto;
+import hse.dto.OrderFilter;
+import hse.dto.OrderPageDto;
+import hse.event.OrderStatusNotification;
+import hse.model.Money;
 import hse.model.OrderStatus;
 import hse.service.OrdersService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -35,7 +50,10 @@ record CommonErrorResponse(
 @RequestMapping("api/orders")
 @RequiredArgsConstructor
 public class OrdersController {
+    private static final String NDJSON = "application/x-ndjson";
+
     private final OrdersService ordersService;
+    private final ObservationRegistry observationRegistry;
 
     @PostMapping("/create/{userId}/{amount}/{description}")
     @Operation(summary = "Создать новый заказ",
@@ -73,46 +91,234 @@ public class OrdersController {
                     example = "Покупка книги 'Spring Boot in Action'"
             )
             @PathVariable String description) {
-        return ResponseEntity.ok(ordersService.createOrder(userId, amount, description));
+        Money orderAmount = Money.of(amount);
+        return ResponseEntity.ok(Observation.createNotStarted("orders.create", observationRegistry)
+                .observe(() -> ordersService.createOrder(userId, orderAmount, description)));
+    }
+
+    @PostMapping("/create/batch")
+    @Operation(summary = "Создать несколько заказов",
+            description = "Создает все корректные заказы из списка в одной транзакции и возвращает результат " +
+                    "по каждому элементу. Элементы без userId или с неположительной суммой отклоняются, не мешая " +
+                    "созданию остальных. Существование пользователя здесь не проверяется: счета хранит " +
+                    "payments-service, и заказ несуществующего пользователя будет отменен сагой " +
+                    "со статусом CANCELLED (причина ACCOUNT_NOT_FOUND).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Пакет обработан",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(
+                            implementation = OrderBatchItemResult.class
+                    )))),
+            @ApiResponse(responseCode = "400", description = "Пустой или слишком большой пакет",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<List<OrderBatchItemResult>> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        return ResponseEntity.ok(Observation.createNotStarted("orders.create.batch", observationRegistry)
+                .observe(() -> ordersService.createOrders(requests)));
     }
 
     @GetMapping("/view")
     @Operation(summary = "Просмотреть список всех заказов",
-            description = "Возвращает список всех заказов в системе.")
+            description = "Возвращает страницу заказов, отсортированных от новых к старым. " +
+                    "Для получения следующей страницы передайте значение nextCursor из предыдущего ответа.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Список заказов успешно получен",
+            @ApiResponse(responseCode = "200", description = "Страница заказов успешно получена",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = OrderPageDto.class
+                    ))),
+            @ApiResponse(responseCode = "400", description = "Неверный курсор, размер страницы или параметры фильтра",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
                     content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<OrderPageDto> viewOrdersList(
+            @Parameter(description = "Фильтр по статусу заказа", example = "NEW")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Начало интервала по времени создания (включительно)",
+                    example = "2025-06-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Конец интервала по времени создания (не включительно)",
+                    example = "2025-07-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Курсор следующей страницы из предыдущего ответа")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ordersService.viewOrdersPage(null, new OrderFilter(status, from, to), cursor, limit));
+    }
+
+    @GetMapping(value = "/view/stream", produces = NDJSON)
+    @Operation(summary = "Выгрузить все заказы потоком",
+            description = "Возвращает все заказы в формате NDJSON (по одному JSON-объекту на строку), " +
+                    "читая их из базы данных порциями.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток заказов",
+                    content = @Content(mediaType = NDJSON, schema = @Schema(
                             implementation = OrderDto.class
                     ))),
+            @ApiResponse(responseCode = "400", description = "Неверные параметры фильтра",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
                     content = @Content(mediaType = "application/json", schema = @Schema(
                             implementation = CommonErrorResponse.class
                     )))
     })
-    public ResponseEntity<List<OrderDto>> viewOrdersList() {
-        return ResponseEntity.ok(ordersService.viewOrdersList());
+    public ResponseEntity<StreamingResponseBody> streamOrdersList(
+            @Parameter(description = "Фильтр по статусу заказа", example = "NEW")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Начало интервала по времени создания (включительно)",
+                    example = "2025-06-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Конец интервала по времени создания (не включительно)",
+                    example = "2025-07-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        OrderFilter filter = new OrderFilter(status, from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> ordersService.streamOrders(null, filter, out));
     }
 
     @GetMapping("/view/{userId}")
     @Operation(summary = "Просмотреть список заказов по ID пользователя",
-            description = "Возвращает список заказов, связанных с конкретным пользователем.")
+            description = "Возвращает страницу заказов конкретного пользователя, отсортированных от новых к старым. " +
+                    "Результат можно отфильтровать по статусу и интервалу времени создания.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Список заказов по ID пользователя успешно получен",
+            @ApiResponse(responseCode = "200", description = "Страница заказов пользователя успешно получена",
                     content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = OrderPageDto.class
+                    ))),
+            @ApiResponse(responseCode = "400", description = "Неверный курсор, размер страницы или параметры фильтра",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<OrderPageDto> viewOrdersListByUserId(
+            @Parameter(
+                    description = "Уникальный идентификатор пользователя",
+                    required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
+            )
+            @PathVariable UUID userId,
+            @Parameter(description = "Фильтр по статусу заказа", example = "NEW")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Начало интервала по времени создания (включительно)",
+                    example = "2025-06-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Конец интервала по времени создания (не включительно)",
+                    example = "2025-07-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Курсор следующей страницы из предыдущего ответа")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ordersService.viewOrdersPage(userId, new OrderFilter(status, from, to), cursor, limit));
+    }
+
+    @GetMapping(value = "/view/{userId}/stream", produces = NDJSON)
+    @Operation(summary = "Выгрузить заказы пользователя потоком",
+            description = "Возвращает все заказы конкретного пользователя в формате NDJSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток заказов пользователя",
+                    content = @Content(mediaType = NDJSON, schema = @Schema(
                             implementation = OrderDto.class
                     ))),
+            @ApiResponse(responseCode = "400", description = "Неверные параметры фильтра",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
                     content = @Content(mediaType = "application/json", schema = @Schema(
                             implementation = CommonErrorResponse.class
                     )))
     })
-    public ResponseEntity<List<OrderDto>> viewOrdersListByUserId(
+    public ResponseEntity<StreamingResponseBody> streamOrdersListByUserId(
+            @Parameter(
+                    description = "Уникальный идентификатор пользователя",
+                    required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
+            )
+            @PathVariable UUID userId,
+            @Parameter(description = "Фильтр по статусу заказа", example = "NEW")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Начало интервала по времени создания (включительно)",
+                    example = "2025-06-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Конец интервала по времени создания (не включительно)",
+                    example = "2025-07-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        OrderFilter filter = new OrderFilter(status, from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> ordersService.streamOrders(userId, filter, out));
+    }
+
+    @GetMapping(value = "/view/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Подписаться на изменения статусов заказов пользователя",
+            description = "Открывает поток Server-Sent Events, в который приходит событие order-status " +
+                    "при каждом изменении статуса заказа указанного пользователя.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток событий открыт",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(
+                            implementation = OrderStatusNotification.class
+                    ))),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public SseEmitter streamOrderStatusEvents(
             @Parameter(
                     description = "Уникальный идентификатор пользователя",
                     required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
             )
             @PathVariable UUID userId) {
-        return ResponseEntity.ok(ordersService.viewOrdersListByUserId(userId));
+        return ordersService.streamOrderStatusEvents(userId);
+    }
+
+    @GetMapping("/{id}/await")
+    @Operation(summary = "Дождаться завершения обработки заказа",
+            description = "Удерживает запрос, пока заказ не выйдет из статуса NEW или не истечет таймаут, " +
+                    "и возвращает текущий статус заказа.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Статус заказа (NEW, если таймаут истек)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = OrderStatus.class
+                    ))),
+            @ApiResponse(responseCode = "400", description = "Неверный таймаут",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "404", description = "Заказ не найден",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public DeferredResult<OrderStatus> awaitOrderStatus(
+            @Parameter(
+                    description = "Уникальный идентификатор заказа",
+                    required = true, example = "b5c6d7e8-f9a0-1122-3344-5566778899aa"
+            )
+            @PathVariable UUID id,
+            @Parameter(description = "Максимальное время ожидания в секундах", example = "30")
+            @RequestParam(required = false) Integer timeout) {
+        return ordersService.awaitOrderStatus(id, timeout == null ? null : Duration.ofSeconds(timeout));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,15 @@
+package hse.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CreateOrderRequest(
+        @Schema(description = "Уникальный идентификатор пользователя", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+        UUID userId,
+        @Schema(description = "Сумма заказа (должна быть положительной)", example = "150.75")
+        BigDecimal amount,
+        @Schema(description = "Описание заказа", example = "Покупка книги 'Spring Boot in Action'")
+        String description
+) {}
@@ -0,0 +1,26 @@
+package hse.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class DeadLetterDto {
+    private UUID id;
+    private String topic;
+    private int partition;
+    private long offset;
+    private String messageKey;
+    private String messageId;
+    private String contentType;
+    private int schemaVersion;
+    private byte[] payload;
+    private String exceptionClass;
+    private String errorMessage;
+    private LocalDateTime failedAt;
+    private LocalDateTime replayedAt;
+    private int replayCount;
+}
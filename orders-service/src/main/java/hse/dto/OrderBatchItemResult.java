@@ -0,0 +1,13 @@
+package hse.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class OrderBatchItemResult {
+    private int index;
+    private boolean created;
+    private OrderDto order;
+    private String error;
+}
@@ -1,10 +1,10 @@
 package hse.dto;
 
+import hse.model.Money;
 import hse.model.OrderStatus;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -13,7 +13,7 @@ import java.util.UUID;
 public class OrderDto {
     private UUID id;
     private UUID userId;
-    private BigDecimal amount;
+    private Money amount;
     private String description;
     private OrderStatus status;
     private LocalDateTime createdAt;
@@ -0,0 +1,19 @@
+package hse.dto;
+
+import hse.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderFilter(
+        OrderStatus status,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public static final OrderFilter NONE = new OrderFilter(null, null, null);
+
+    public OrderFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("The 'from' time has to be before the 'to' time");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package hse.dto;
+
+import hse.model.OrderEntity;
+
+public final class OrderMapper {
+    private OrderMapper() {
+    }
+
+    public static OrderDto toDto(OrderEntity order) {
+        return OrderDto.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .amount(order.getAmount())
+                .description(order.getDescription())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package hse.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderPageDto {
+    private List<OrderDto> items;
+    private String nextCursor;
+}
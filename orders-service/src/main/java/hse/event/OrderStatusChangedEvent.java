@@ -0,0 +1,10 @@
+package hse.event;
+
+import hse.model.OrderStatus;
+
+import java.util.UUID;
+
+public record OrderStatusChangedEvent(
+        UUID orderId,
+        OrderStatus status
+) {}
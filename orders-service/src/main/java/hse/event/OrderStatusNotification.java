@@ -0,0 +1,11 @@
+package hse.event;
+
+import hse.model.OrderStatus;
+
+import java.util.UUID;
+
+public record OrderStatusNotification(
+        UUID orderId,
+        UUID userId,
+        OrderStatus status
+) {}
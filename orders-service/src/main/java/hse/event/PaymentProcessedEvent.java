@@ -1,12 +1,13 @@
 package hse.event;
 
-import java.math.BigDecimal;
+import hse.model.Money;
+
 import java.util.UUID;
 
 public record PaymentProcessedEvent(
         UUID orderId,
         UUID userId,
-        BigDecimal amount,
+        Money amount,
         UUID paymentId,
         String paymentStatus,
         String reason // if failure
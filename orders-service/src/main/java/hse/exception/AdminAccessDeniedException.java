@@ -0,0 +1,7 @@
+package hse.exception;
+
+public class AdminAccessDeniedException extends OrdersException {
+    public AdminAccessDeniedException(String message) {
+        super(message);
+    }
+}
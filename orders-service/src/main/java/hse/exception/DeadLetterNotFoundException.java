@@ -0,0 +1,7 @@
+package hse.exception;
+
+public class DeadLetterNotFoundException extends OrdersException {
+    public DeadLetterNotFoundException(String message) {
+        super(message);
+    }
+}
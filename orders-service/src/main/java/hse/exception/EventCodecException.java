@@ -0,0 +1,11 @@
+package hse.exception;
+
+public class EventCodecException extends OrdersException {
+    public EventCodecException(String message) {
+        super(message);
+    }
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
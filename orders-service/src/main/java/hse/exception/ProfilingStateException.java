@@ -0,0 +1,7 @@
+package hse.exception;
+
+public class ProfilingStateException extends OrdersException {
+    public ProfilingStateException(String message) {
+        super(message);
+    }
+}
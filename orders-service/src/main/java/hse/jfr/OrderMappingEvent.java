@@ -0,0 +1,19 @@
+package hse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("hse.orders.OrderMapping")
+@Label("Order DTO Mapping")
+@Category({"HSE", "Orders"})
+@Description("Reads order rows from a result set and maps them to DTOs")
+public class OrderMappingEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,25 @@
+package hse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hse.orders.OrderStatusUpdate")
+@Label("Order Status Update")
+@Category({"HSE", "Orders"})
+@Description("Loads an order and applies the payment outcome to it")
+@StackTrace(false)
+public class OrderStatusUpdateEvent extends Event {
+    @Label("Order Id")
+    public String orderId;
+
+    @Label("Status")
+    public String status;
+
+    @Label("Transitioned")
+    @Description("Whether the order left the NEW status during this update")
+    public boolean transitioned;
+}
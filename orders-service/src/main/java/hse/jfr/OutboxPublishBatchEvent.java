@@ -0,0 +1,19 @@
+package hse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("hse.orders.OutboxPublishBatch")
+@Label("Outbox Publish Batch")
+@Category({"HSE", "Orders", "Outbox"})
+@Description("Locks a batch of outbox events, sends them to Kafka and marks the acknowledged ones as processed")
+public class OutboxPublishBatchEvent extends Event {
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Published")
+    public int published;
+}
@@ -0,0 +1,24 @@
+package hse.listener;
+
+import hse.event.OrderStatusChangedEvent;
+import hse.service.OrderStatusCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OrderStatusCacheUpdater {
+    private final OrderStatusCache orderStatusCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        orderStatusCache.put(event.orderId(), event.status());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onOrderStatusChangeRolledBack(OrderStatusChangedEvent event) {
+        orderStatusCache.invalidate(event.orderId());
+    }
+}
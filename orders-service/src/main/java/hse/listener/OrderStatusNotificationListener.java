@@ -0,0 +1,40 @@
+package hse.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.event.OrderStatusNotification;
+import hse.scheduler.PostgresNotificationHandler;
+import hse.service.OrderStatusCache;
+import hse.service.OrderStatusNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusNotificationListener implements PostgresNotificationHandler {
+    private final OrderStatusCache orderStatusCache;
+    private final OrderStatusNotifier orderStatusNotifier;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String channel() {
+        return "order_status";
+    }
+
+    @Override
+    public void onNotifications(List<String> payloads) {
+        for (String payload : payloads) {
+            try {
+                OrderStatusNotification notification = objectMapper.readValue(payload, OrderStatusNotification.class);
+                orderStatusCache.put(notification.orderId(), notification.status());
+                orderStatusNotifier.publish(notification);
+            } catch (JsonProcessingException e) {
+                log.error("Malformed order status notification: {}", payload, e);
+            }
+        }
+    }
+}
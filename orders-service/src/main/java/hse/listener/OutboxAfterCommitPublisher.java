@@ -0,0 +1,85 @@
+package hse.listener;
+
+import hse.event.OutboxSavedEvent;
+import hse.model.OutboxEntity;
+import hse.repository.OutboxRepository;
+import hse.scheduler.OutboxScheduler;
+import hse.service.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Component
+@ConditionalOnProperty(name = "outbox.direct-publish.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxAfterCommitPublisher {
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxRepository outboxRepository;
+    private final OutboxScheduler outboxScheduler;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final Queue<OutboxEntity> acknowledged = new ConcurrentLinkedQueue<>();
+
+    @Value("${outbox.direct-publish.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${outbox.direct-publish.grace-period-ms:10000}")
+    private long gracePeriodMs;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxSaved(OutboxSavedEvent savedEvent) {
+        OutboxEntity event = savedEvent.outbox();
+        try {
+            outboxPublisher.publish(event).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.warn("Direct publish of outbox event {} failed. The relay will retry it.", event.getId(), ex);
+                    wakeRelayAfterGracePeriod();
+                } else {
+                    acknowledged.add(event);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Direct publish of outbox event {} failed. The relay will retry it.", event.getId(), e);
+            wakeRelayAfterGracePeriod();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.direct-publish.flush-interval-ms:200}")
+    public void flushAcknowledged() {
+        List<OutboxEntity> events = new ArrayList<>();
+        OutboxEntity event;
+        while (events.size() < flushBatchSize && (event = acknowledged.poll()) != null) {
+            events.add(event);
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markProcessed(events));
+        } catch (Exception e) {
+            acknowledged.addAll(events);
+            log.warn("Failed to mark {} directly published outbox events as processed. Retrying on the next flush.",
+                    events.size(), e);
+        }
+    }
+
+    private void wakeRelayAfterGracePeriod() {
+        taskScheduler.schedule(outboxScheduler::processOutboxEvents, Instant.now().plusMillis(gracePeriodMs));
+    }
+}
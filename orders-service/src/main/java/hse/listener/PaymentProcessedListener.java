@@ -1,15 +1,22 @@
 package hse.listener;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.EventCodecs;
 import hse.event.PaymentProcessedEvent;
+import hse.exception.EventCodecException;
 import hse.exception.OrdersException;
+import hse.metrics.ListenerMetrics;
+import hse.model.DeadLetterEntity;
+import hse.service.DeadLetterService;
 import hse.service.OrdersService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +25,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PaymentProcessedListener {
     private final OrdersService ordersService;
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
+    private final ListenerMetrics listenerMetrics;
+    private final DeadLetterService deadLetterService;
 
+    @RetryableTopic(
+            attempts = "${kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.retry.delay-ms:1000}",
+                    multiplierExpression = "${kafka.retry.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.max-delay-ms:30000}"),
+            numPartitions = "${kafka.topics.payment-processed.partitions:6}",
+            replicationFactor = "${kafka.topics.payment-processed.replicas:1}",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = EventCodecException.class,
+            traverseCauses = "true")
     @KafkaListener(topics = "payment.processed",
-            groupId = "orders-service-group")
+            groupId = "orders-service-group",
+            concurrency = "${kafka.listeners.payment-processed.concurrency:3}")
     @Transactional
-    public void listenPaymentStatus(ConsumerRecord<String, String> consumerRecord, Acknowledgment ack) {
+    public void listenPaymentStatus(ConsumerRecord<String, byte[]> consumerRecord, Acknowledgment ack) {
+        long startNanos = System.nanoTime();
+        listenerMetrics.recordAge(consumerRecord);
         String topic = consumerRecord.topic();
-        String payload = consumerRecord.value();
+        byte[] payload = consumerRecord.value();
         String messageId = consumerRecord.headers().lastHeader("id") != null ?
                 new String(consumerRecord.headers().lastHeader("id").value()) :
                 consumerRecord.key();
@@ -33,25 +56,22 @@ public class PaymentProcessedListener {
         log.info("Received payment status message from Kafka topic '{}' with key '{}', offset '{}', messageId: {}",
                 topic, consumerRecord.key(), consumerRecord.offset(), messageId);
 
+        boolean failed = false;
         try {
-            if (payload == null || payload.trim().isEmpty()) {
+            if (payload == null || payload.length == 0) {
                 log.warn("Received an empty or null payload for message ID {}. Skipping processing.", messageId);
                 ack.acknowledge();
                 return;
             }
 
-            JsonNode rootNode = objectMapper.readTree(payload);
+            PaymentProcessedEvent event = eventCodecs.decode(consumerRecord, PaymentProcessedEvent.class);
+            String paymentStatus = event.paymentStatus();
+            if (paymentStatus == null) {
+                log.error("Payload for message ID {} does not contain a 'paymentStatus' field.", messageId);
 
-            JsonNode paymentStatusNode = rootNode.get("paymentStatus");
-            if (paymentStatusNode == null || !paymentStatusNode.isTextual()) {
-                log.error("Payload for message ID {} does not contain a valid 'paymentStatus' field. Payload: {}", messageId, payload);
-
-                throw new OrdersException("Invalid payload: missing or malformed 'paymentStatus' field.");
+                throw new OrdersException("Invalid payload: missing 'paymentStatus' field.");
             }
 
-            String paymentStatus = paymentStatusNode.asText();
-            PaymentProcessedEvent event = objectMapper.readValue(payload, PaymentProcessedEvent.class);
-
             if ("SUCCESS".equals(paymentStatus)) {
                 log.info("Processing PaymentSuccessEvent for orderId: {}", event.orderId());
                 ordersService.updateOrderStatus(event, true);
@@ -59,7 +79,7 @@ public class PaymentProcessedListener {
                 log.info("Processing PaymentFailedEvent for orderId: {}. Reason: {}", event.orderId(), event.reason());
                 ordersService.updateOrderStatus(event, false);
             } else {
-                log.warn("Unknown paymentStatus '{}' for message ID {}. Skipping processing. Payload: {}", paymentStatus, messageId, payload);
+                log.warn("Unknown paymentStatus '{}' for message ID {}. Skipping processing.", paymentStatus, messageId);
                 ack.acknowledge();
                 return;
             }
@@ -68,10 +88,21 @@ public class PaymentProcessedListener {
             log.info("Successfully processed and acknowledged payment status message with ID {}.", messageId);
 
         } catch (Exception e) {
+            failed = true;
             log.error("Error processing payment status message for key {}: {}. Transaction will rollback.",
                     consumerRecord.key(), e.getMessage(), e);
 
             throw new OrdersException("Failed to process payment status event for message ID " + messageId, e);
+        } finally {
+            listenerMetrics.recordProcessing("payment-processed", startNanos, !failed);
         }
     }
+
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<String, byte[]> consumerRecord, Acknowledgment ack) {
+        DeadLetterEntity deadLetter = deadLetterService.storeFromDeadLetterTopic(consumerRecord);
+        log.error("Payment status message with key {} exhausted its retries and was stored as dead letter {}: {}",
+                consumerRecord.key(), deadLetter.getId(), deadLetter.getErrorMessage());
+        ack.acknowledge();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package hse.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ListenerMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> recordAgeTimers = new ConcurrentHashMap<>();
+
+    public ListenerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordProcessing(String listener, long startNanos, boolean success) {
+        Map<String, Timer> timers = success ? successTimers : failureTimers;
+        timers.computeIfAbsent(listener, key -> Timer.builder("kafka.listener.processing")
+                        .description("Time spent processing consumed records")
+                        .tag("listener", listener)
+                        .tag("outcome", success ? "success" : "failure")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAge(ConsumerRecord<?, ?> consumerRecord) {
+        long ageMillis = System.currentTimeMillis() - consumerRecord.timestamp();
+        recordAgeTimers.computeIfAbsent(consumerRecord.topic(), topic -> Timer.builder("kafka.listener.record.age")
+                        .description("Time from producing a record to the start of its processing")
+                        .tag("topic", topic)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(Math.max(ageMillis, 0), TimeUnit.MILLISECONDS);
+    }
+}
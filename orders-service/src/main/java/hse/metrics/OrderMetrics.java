@@ -0,0 +1,34 @@
+package hse.metrics;
+
+import hse.model.OrderEntity;
+import hse.model.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class OrderMetrics {
+    private final Timer finished;
+    private final Timer cancelled;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.finished = sagaTimer(meterRegistry, OrderStatus.FINISHED);
+        this.cancelled = sagaTimer(meterRegistry, OrderStatus.CANCELLED);
+    }
+
+    public void recordSagaCompleted(OrderEntity order) {
+        Timer timer = order.getStatus() == OrderStatus.FINISHED ? finished : cancelled;
+        Duration duration = Duration.between(order.getCreatedAt(), order.getUpdatedAt());
+        timer.record(duration.isNegative() ? Duration.ZERO : duration);
+    }
+
+    private static Timer sagaTimer(MeterRegistry meterRegistry, OrderStatus status) {
+        return Timer.builder("orders.saga.duration")
+                .description("Time from creating an order to receiving its payment outcome")
+                .tag("status", status.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package hse.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "dead_letter", schema = "public")
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterEntity {
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partition;
+
+    @Column(name = "record_offset", nullable = false)
+    private long offset;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "message_id")
+    private String messageId;
+
+    @Column(name = "payload")
+    private byte[] payload;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "schema_version", nullable = false)
+    private int schemaVersion;
+
+    @Column(name = "headers")
+    private byte[] headers;
+
+    @Column(name = "exception_class")
+    private String exceptionClass;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "replayed_at")
+    private LocalDateTime replayedAt;
+
+    @Column(name = "replay_count", nullable = false)
+    private int replayCount;
+}
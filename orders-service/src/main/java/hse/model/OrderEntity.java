@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -20,13 +19,14 @@ import java.util.UUID;
 @AllArgsConstructor
 public class OrderEntity {
     @Id
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
     @Column(name = "amount", precision = 19, scale = 2, nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(name = "description")
     private String description;
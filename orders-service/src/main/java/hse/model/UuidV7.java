@@ -0,0 +1,33 @@
+package hse.model;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long mostSignificantBits = (timestampAndSequence >>> 12) << 16
+                | 0x7000L
+                | (timestampAndSequence & 0x0FFFL);
+        long leastSignificantBits = RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static long nextTimestampAndSequence() {
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_SEQUENCE.get();
+            long candidate = System.currentTimeMillis() << 12;
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_TIMESTAMP_AND_SEQUENCE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
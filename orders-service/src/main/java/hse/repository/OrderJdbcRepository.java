@@ -0,0 +1,128 @@
+package hse.repository;
+
+import hse.dto.OrderCursor;
+import hse.dto.OrderDto;
+import hse.dto.OrderFilter;
+import hse.jfr.OrderMappingEvent;
+import hse.model.Money;
+import hse.model.OrderEntity;
+import hse.model.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+    private static final String SELECT_ORDERS =
+            "SELECT id, user_id, amount, description, status, created_at, updated_at FROM order_table";
+
+    private static final RowMapper<OrderDto> ORDER_ROW_MAPPER = (rs, rowNum) -> OrderDto.builder()
+            .id(rs.getObject("id", UUID.class))
+            .userId(rs.getObject("user_id", UUID.class))
+            .amount(Money.of(rs.getBigDecimal("amount")))
+            .description(rs.getString("description"))
+            .status(OrderStatus.valueOf(rs.getString("status")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OrderEntity> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO order_table (id, user_id, amount, description, status, created_at)
+                        VALUES (?, ?, ?, ?, CAST(? AS order_status), ?)
+                        """,
+                orders, orders.size(), (ps, order) -> {
+                    ps.setObject(1, order.getId());
+                    ps.setObject(2, order.getUserId());
+                    ps.setBigDecimal(3, order.getAmount().toBigDecimal());
+                    ps.setString(4, order.getDescription());
+                    ps.setString(5, order.getStatus().name());
+                    ps.setTimestamp(6, Timestamp.valueOf(order.getCreatedAt()));
+                });
+    }
+
+    public List<OrderDto> findPage(UUID userId, OrderFilter filter, OrderCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT_ORDERS).append(whereClause(userId, filter, args));
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(Timestamp.valueOf(after.createdAt()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        OrderMappingEvent mappingEvent = new OrderMappingEvent();
+        mappingEvent.begin();
+        List<OrderDto> orders = jdbcTemplate.query(sql.toString(), ORDER_ROW_MAPPER, args.toArray());
+        commitMappingEvent(mappingEvent, "page", orders.size());
+        return orders;
+    }
+
+    public void streamOrders(UUID userId, OrderFilter filter, int fetchSize, Consumer<OrderDto> consumer) {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_ORDERS + whereClause(userId, filter, args) + " ORDER BY created_at DESC, id DESC";
+
+        OrderMappingEvent mappingEvent = new OrderMappingEvent();
+        mappingEvent.begin();
+        int[] rows = new int[1];
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(sql);
+                    ps.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.size(); i++) {
+                        ps.setObject(i + 1, args.get(i));
+                    }
+                    return ps;
+                },
+                rs -> {
+                    consumer.accept(ORDER_ROW_MAPPER.mapRow(rs, rs.getRow()));
+                    rows[0]++;
+                });
+        commitMappingEvent(mappingEvent, "stream", rows[0]);
+    }
+
+    private static void commitMappingEvent(OrderMappingEvent event, String operation, int rows) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    private static String whereClause(UUID userId, OrderFilter filter, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE TRUE");
+        if (userId != null) {
+            where.append(" AND user_id = ?");
+            args.add(userId);
+        }
+        if (filter.status() != null) {
+            where.append(" AND status = CAST(? AS order_status)");
+            args.add(filter.status().name());
+        }
+        if (filter.from() != null) {
+            where.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            where.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+        return where.toString();
+    }
+}
@@ -1,11 +1,17 @@
 package hse.repository;
 
 import hse.model.OrderEntity;
+import hse.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
-    List<OrderEntity> findByUserId(UUID id);
+    @Transactional(readOnly = true)
+    @Query("SELECT o.status FROM OrderEntity o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") UUID id);
 }
\ No newline at end of file
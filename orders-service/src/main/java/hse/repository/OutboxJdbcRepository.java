@@ -0,0 +1,53 @@
+package hse.repository;
+
+import hse.model.OutboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Backlog(long size, LocalDateTime oldestOccurredOn) {}
+
+    public void insertAll(List<OutboxEntity> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO outbox_event
+                            (id, aggregate_type, aggregate_id, event_type, message_key,
+                             payload, content_type, schema_version, trace_context, occurred_on, processed)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                events, events.size(), (ps, event) -> {
+                    ps.setObject(1, event.getId());
+                    ps.setString(2, event.getAggregateType());
+                    ps.setObject(3, event.getAggregateId());
+                    ps.setString(4, event.getEventType());
+                    ps.setString(5, event.getMessageKey());
+                    ps.setBytes(6, event.getPayload());
+                    ps.setString(7, event.getContentType());
+                    ps.setInt(8, event.getSchemaVersion());
+                    ps.setString(9, event.getTraceContext());
+                    ps.setTimestamp(10, Timestamp.valueOf(event.getOccurredOn()));
+                    ps.setBoolean(11, event.isProcessed());
+                });
+    }
+
+    public Backlog findBacklog() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS size, MIN(occurred_on) AS oldest FROM outbox_event WHERE processed = false",
+                (rs, rowNum) -> {
+                    Timestamp oldest = rs.getTimestamp("oldest");
+                    return new Backlog(rs.getLong("size"), oldest != null ? oldest.toLocalDateTime() : null);
+                });
+    }
+}
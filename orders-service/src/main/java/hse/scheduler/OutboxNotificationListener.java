@@ -0,0 +1,48 @@
+package hse.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnExpression("${outbox.relay.notify.enabled:true} and !${outbox.direct-publish.enabled:false}")
+@Slf4j
+public class OutboxNotificationListener implements PostgresNotificationHandler {
+    private final OutboxScheduler outboxScheduler;
+    private final TaskExecutor taskExecutor;
+
+    public OutboxNotificationListener(OutboxScheduler outboxScheduler,
+                                      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.outboxScheduler = outboxScheduler;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public String channel() {
+        return "outbox_event";
+    }
+
+    @Override
+    public void onListening() {
+        wakeUpRelay();
+    }
+
+    @Override
+    public void onNotifications(List<String> payloads) {
+        wakeUpRelay();
+    }
+
+    private void wakeUpRelay() {
+        taskExecutor.execute(() -> {
+            try {
+                outboxScheduler.processOutboxEvents();
+            } catch (Exception e) {
+                log.error("Error while processing outbox events after notification", e);
+            }
+        });
+    }
+}
@@ -1,17 +1,28 @@
 package hse.scheduler;
 
+import hse.jfr.OutboxPublishBatchEvent;
 import hse.model.OutboxEntity;
 import hse.repository.OutboxRepository;
+import hse.service.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
@@ -19,35 +30,98 @@ import java.util.List;
 @Slf4j
 public class OutboxScheduler {
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
 
-    @Scheduled(fixedRate = 5000)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.direct-publish.enabled:false}")
+    private boolean directPublishEnabled;
+
+    @Value("${outbox.direct-publish.grace-period-ms:10000}")
+    private long directPublishGracePeriodMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:30000}")
     public void processOutboxEvents() {
-        log.info("Attempting to process Orders Service outbox events...");
-        List<OutboxEntity> events = outboxRepository.findByProcessedFalseOrderByOccurredOnAsc();
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                drainOutbox();
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drainOutbox() {
+        log.debug("Attempting to process Orders Service outbox events...");
+        int published = 0;
+        Integer batchPublished;
 
+        do {
+            batchPublished = transactionTemplate.execute(status -> publishNextBatch());
+            published += batchPublished == null ? 0 : batchPublished;
+        } while (batchPublished != null && batchPublished == batchSize);
+
+        if (published > 0) {
+            log.info("Finished processing Orders Service outbox events. Published: {}", published);
+        }
+    }
+
+    private int publishNextBatch() {
+        OutboxPublishBatchEvent batchEvent = new OutboxPublishBatchEvent();
+        batchEvent.begin();
+        LocalDateTime occurredBefore = directPublishEnabled
+                ? LocalDateTime.now().minus(directPublishGracePeriodMs, ChronoUnit.MILLIS)
+                : LocalDateTime.now();
+        List<OutboxEntity> events = outboxRepository.lockNextUnprocessedBatch(occurredBefore, batchSize);
         if (events.isEmpty()) {
-            log.info("No unprocessed Orders Service outbox events found.");
-            return;
+            return 0;
         }
 
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(events.size());
         for (OutboxEntity event : events) {
             try {
-                kafkaTemplate.send("order.created", event.getId().toString(), event.getPayload())
-                        .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to send Orders Service outbox event to Kafka: {}", event.getId(), ex);
-                    } else {
-                        log.info("Successfully sent Orders Service outbox event to Kafka: {}", event.getId());
-                        event.setProcessed(true);
-                        outboxRepository.save(event);
-                    }
-                });
+                futures.add(outboxPublisher.publish(event));
             } catch (Exception e) {
-                log.error("Unexpected error while processing Orders Service outbox event: {}", event.getId(), e);
+                log.error("Unexpected error while sending Orders Service outbox event: {}", event.getId(), e);
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<OutboxEntity> sent = new ArrayList<>(events.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < events.size(); i++) {
+            UUID eventId = events.get(i).getId();
+            try {
+                futures.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                sent.add(events.get(i));
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Failed to send Orders Service outbox event to Kafka: {}. Event will be retried.",
+                        eventId, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for Kafka acknowledgements. Remaining events will be retried.");
+                break;
             }
         }
-        log.info("Finished processing Orders Service outbox events.");
+
+        if (!sent.isEmpty()) {
+            outboxRepository.markProcessed(sent);
+        }
+
+        if (batchEvent.shouldCommit()) {
+            batchEvent.batchSize = events.size();
+            batchEvent.published = sent.size();
+            batchEvent.commit();
+        }
+        return sent.size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package hse.service;
+
+import hse.codec.EventCodecs;
+import hse.dto.DeadLetterDto;
+import hse.exception.DeadLetterNotFoundException;
+import hse.exception.OrdersException;
+import hse.model.DeadLetterEntity;
+import hse.repository.DeadLetterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterService {
+    private static final String DEAD_LETTER_TOPIC_SUFFIX = "-dlt";
+    private static final String MESSAGE_ID_HEADER = "id";
+    private static final int NULL_LENGTH = -1;
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER,
+            SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER);
+    private static final List<String> EXCLUDED_HEADER_PREFIXES = List.of(KafkaHeaders.PREFIX + "dlt-", "retry_topic-");
+
+    private final DeadLetterRepository deadLetterRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodecs eventCodecs;
+
+    @Value("${dead-letters.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${dead-letters.replay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Transactional
+    public DeadLetterEntity storeFromDeadLetterTopic(ConsumerRecord<String, byte[]> consumerRecord) {
+        Headers headers = consumerRecord.headers();
+        String topic = consumerRecord.topic();
+        if (topic.endsWith(DEAD_LETTER_TOPIC_SUFFIX)) {
+            topic = topic.substring(0, topic.length() - DEAD_LETTER_TOPIC_SUFFIX.length());
+        }
+
+        byte[] partition = firstHeaderValue(headers, KafkaHeaders.DLT_ORIGINAL_PARTITION);
+        byte[] offset = firstHeaderValue(headers, KafkaHeaders.DLT_ORIGINAL_OFFSET);
+        String exceptionClass = lastHeaderString(headers, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+
+        DeadLetterEntity deadLetter = DeadLetterEntity.builder()
+                .topic(topic)
+                .partition(partition != null && partition.length == Integer.BYTES
+                        ? ByteBuffer.wrap(partition).getInt()
+                        : consumerRecord.partition())
+                .offset(offset != null && offset.length == Long.BYTES
+                        ? ByteBuffer.wrap(offset).getLong()
+                        : consumerRecord.offset())
+                .messageKey(consumerRecord.key())
+                .messageId(resolveMessageId(consumerRecord))
+                .payload(consumerRecord.value())
+                .contentType(eventCodecs.contentType(consumerRecord))
+                .schemaVersion(eventCodecs.schemaVersion(consumerRecord))
+                .headers(encodeHeaders(headers))
+                .exceptionClass(exceptionClass != null
+                        ? exceptionClass
+                        : lastHeaderString(headers, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .errorMessage(lastHeaderString(headers, KafkaHeaders.DLT_EXCEPTION_MESSAGE))
+                .failedAt(LocalDateTime.now())
+                .build();
+        return deadLetterRepository.save(deadLetter);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeadLetterDto> viewDeadLetters(boolean includeReplayed, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("The limit has to be between 1 and " + maxPageSize);
+        }
+
+        List<DeadLetterEntity> deadLetters = includeReplayed
+                ? deadLetterRepository.findAllByOrderByFailedAtDesc(PageRequest.of(0, limit))
+                : deadLetterRepository.findByReplayedAtIsNullOrderByFailedAtAsc(PageRequest.of(0, limit));
+        return deadLetters.stream().map(DeadLetterService::toDto).toList();
+    }
+
+    public DeadLetterDto replay(UUID id) {
+        DeadLetterEntity deadLetter = deadLetterRepository.findById(id)
+                .orElseThrow(() -> new DeadLetterNotFoundException("The dead letter was not found with id: " + id));
+        return toDto(replay(deadLetter));
+    }
+
+    public List<DeadLetterDto> replayPending(int limit) {
+        return viewDeadLetters(false, limit).stream()
+                .map(deadLetter -> replay(deadLetter.getId()))
+                .toList();
+    }
+
+    private DeadLetterEntity replay(DeadLetterEntity deadLetter) {
+        ProducerRecord<String, byte[]> producerRecord =
+                new ProducerRecord<>(deadLetter.getTopic(), deadLetter.getMessageKey(), deadLetter.getPayload());
+        if (deadLetter.getHeaders() != null) {
+            decodeHeaders(deadLetter.getHeaders(), producerRecord.headers());
+        } else {
+            if (deadLetter.getMessageId() != null) {
+                producerRecord.headers().add(MESSAGE_ID_HEADER,
+                        deadLetter.getMessageId().getBytes(StandardCharsets.UTF_8));
+            }
+            EventCodecs.addHeaders(producerRecord.headers(),
+                    deadLetter.getContentType(), deadLetter.getSchemaVersion());
+        }
+
+        try {
+            kafkaTemplate.send(producerRecord).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrdersException("Interrupted while replaying the dead letter " + deadLetter.getId(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new OrdersException("Failed to replay the dead letter " + deadLetter.getId(), e);
+        }
+
+        deadLetter.setReplayedAt(LocalDateTime.now());
+        deadLetter.setReplayCount(deadLetter.getReplayCount() + 1);
+        log.info("Replayed the dead letter {} to topic '{}'", deadLetter.getId(), deadLetter.getTopic());
+        return deadLetterRepository.save(deadLetter);
+    }
+
+    private static String resolveMessageId(ConsumerRecord<String, byte[]> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(MESSAGE_ID_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : consumerRecord.key();
+    }
+
+    private static byte[] encodeHeaders(Headers headers) {
+        List<Header> retained = new ArrayList<>();
+        int size = 0;
+        for (Header header : headers) {
+            if (isRetained(header.key())) {
+                retained.add(header);
+                size += Short.BYTES + header.key().getBytes(StandardCharsets.UTF_8).length + Integer.BYTES
+                        + (header.value() == null ? 0 : header.value().length);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Header header : retained) {
+            byte[] key = header.key().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) key.length).put(key);
+            if (header.value() == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(header.value().length).put(header.value());
+            }
+        }
+        return buffer.array();
+    }
+
+    private static boolean isRetained(String key) {
+        return !EXCLUDED_HEADERS.contains(key) && EXCLUDED_HEADER_PREFIXES.stream().noneMatch(key::startsWith);
+    }
+
+    private static void decodeHeaders(byte[] encoded, Headers headers) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        while (buffer.hasRemaining()) {
+            byte[] key = new byte[buffer.getShort()];
+            buffer.get(key);
+            int length = buffer.getInt();
+            byte[] value = null;
+            if (length != NULL_LENGTH) {
+                value = new byte[length];
+                buffer.get(value);
+            }
+            headers.add(new String(key, StandardCharsets.UTF_8), value);
+        }
+    }
+
+    private static byte[] firstHeaderValue(Headers headers, String key) {
+        Iterator<Header> iterator = headers.headers(key).iterator();
+        return iterator.hasNext() ? iterator.next().value() : null;
+    }
+
+    private static String lastHeaderString(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static DeadLetterDto toDto(DeadLetterEntity deadLetter) {
+        return DeadLetterDto.builder()
+                .id(deadLetter.getId())
+                .topic(deadLetter.getTopic())
+                .partition(deadLetter.getPartition())
+                .offset(deadLetter.getOffset())
+                .messageKey(deadLetter.getMessageKey())
+                .messageId(deadLetter.getMessageId())
+                .contentType(deadLetter.getContentType())
+                .schemaVersion(deadLetter.getSchemaVersion())
+                .payload(deadLetter.getPayload())
+                .exceptionClass(deadLetter.getExceptionClass())
+                .errorMessage(deadLetter.getErrorMessage())
+                .failedAt(deadLetter.getFailedAt())
+                .replayedAt(deadLetter.getReplayedAt())
+                .replayCount(deadLetter.getReplayCount())
+                .build();
+    }
+}
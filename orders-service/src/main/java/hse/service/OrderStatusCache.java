@@ -0,0 +1,71 @@
+package hse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import hse.model.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class OrderStatusCache {
+    private final Cache<UUID, OrderStatus> cache;
+
+    public OrderStatusCache(MeterRegistry meterRegistry,
+                            @Value("${orders.status-cache.maximum-size:100000}") long maximumSize,
+                            @Value("${orders.status-cache.new-ttl:2s}") Duration newTtl,
+                            @Value("${orders.status-cache.terminal-ttl:10m}") Duration terminalTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StatusExpiry(newTtl.toNanos(), terminalTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "order-status");
+    }
+
+    public OrderStatus get(UUID orderId, Function<UUID, OrderStatus> loader) {
+        OrderStatus status = cache.getIfPresent(orderId);
+        if (status != null) {
+            return status;
+        }
+
+        // Loading through cache.get() would run the query inside the map's synchronized compute and pin
+        // a virtual carrier thread for the whole round trip.
+        status = loader.apply(orderId);
+        if (status != null) {
+            cache.asMap().putIfAbsent(orderId, status);
+        }
+        return status;
+    }
+
+    public void put(UUID orderId, OrderStatus status) {
+        cache.put(orderId, status);
+    }
+
+    public void invalidate(UUID orderId) {
+        cache.invalidate(orderId);
+    }
+
+    private record StatusExpiry(long newTtlNanos, long terminalTtlNanos) implements Expiry<UUID, OrderStatus> {
+        @Override
+        public long expireAfterCreate(UUID orderId, OrderStatus status, long currentTime) {
+            return status == OrderStatus.NEW ? newTtlNanos : terminalTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID orderId, OrderStatus status, long currentTime, long currentDuration) {
+            return expireAfterCreate(orderId, status, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID orderId, OrderStatus status, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
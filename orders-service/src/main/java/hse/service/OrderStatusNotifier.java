@@ -0,0 +1,92 @@
+package hse.service;
+
+import hse.event.OrderStatusNotification;
+import hse.model.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class OrderStatusNotifier {
+    private static final String STATUS_EVENT = "order-status";
+
+    private final Map<UUID, Set<DeferredResult<OrderStatus>>> waitersByOrder = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    @Value("${orders.status-events.timeout:30m}")
+    private Duration emitterTimeout;
+
+    public DeferredResult<OrderStatus> registerWaiter(UUID orderId, Duration timeout) {
+        DeferredResult<OrderStatus> result = new DeferredResult<>(timeout.toMillis());
+        result.onTimeout(() -> result.setResult(OrderStatus.NEW));
+        result.onCompletion(() -> unregister(waitersByOrder, orderId, result));
+        register(waitersByOrder, orderId, result);
+        return result;
+    }
+
+    public SseEmitter registerEmitter(UUID userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        emitter.onCompletion(() -> unregister(emittersByUser, userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unregister(emittersByUser, userId, emitter));
+        register(emittersByUser, userId, emitter);
+        return emitter;
+    }
+
+    public void publish(OrderStatusNotification notification) {
+        if (notification.status() != OrderStatus.NEW) {
+            Set<DeferredResult<OrderStatus>> waiters = waitersByOrder.remove(notification.orderId());
+            if (waiters != null) {
+                waiters.forEach(waiter -> waiter.setResult(notification.status()));
+            }
+        }
+
+        Set<SseEmitter> emitters = emittersByUser.get(notification.userId());
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(notification.userId(), emitter,
+                    SseEmitter.event().name(STATUS_EVENT).id(notification.orderId().toString()).data(notification)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.status-events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        emittersByUser.forEach((userId, emitters) ->
+                emitters.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void send(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping status event stream of user {}: {}", userId, e.getMessage());
+            unregister(emittersByUser, userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static <T> void register(Map<UUID, Set<T>> registry, UUID key, T value) {
+        registry.compute(key, (k, values) -> {
+            Set<T> registered = values != null ? values : ConcurrentHashMap.newKeySet();
+            registered.add(value);
+            return registered;
+        });
+    }
+
+    private static <T> void unregister(Map<UUID, Set<T>> registry, UUID key, T value) {
+        registry.computeIfPresent(key, (k, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+}
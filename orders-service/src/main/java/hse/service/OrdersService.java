@@ -1,22 +1,45 @@
 package hse.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.EncodedEvent;
+import hse.codec.EventCodecs;
+import hse.dto.CreateOrderRequest;
+import hse.dto.OrderBatchItemResult;
+import hse.dto.OrderCursor;
 import hse.dto.OrderDto;
+import hse.dto.OrderFilter;
+import hse.dto.OrderMapper;
+import hse.dto.OrderPageDto;
 import hse.event.OrderCreatedEvent;
+import hse.event.OrderStatusChangedEvent;
+import hse.event.OutboxSavedEvent;
 import hse.event.PaymentProcessedEvent;
 import hse.exception.OrderNotFoundException;
-import hse.exception.OrdersException;
+import hse.jfr.OrderStatusUpdateEvent;
+import hse.metrics.OrderMetrics;
+import hse.model.Money;
 import hse.model.OrderEntity;
 import hse.model.OrderStatus;
 import hse.model.OutboxEntity;
+import hse.model.UuidV7;
+import hse.repository.OrderJdbcRepository;
 import hse.repository.OrderRepository;
+import hse.repository.OutboxJdbcRepository;
 import hse.repository.OutboxRepository;
-import jakarta.transaction.Transactional;
+import hse.tracing.EventTracing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,35 +47,75 @@ import java.util.UUID;
 public class OrdersService {
     private final OrderRepository orderRepository;
 
+    private final OrderJdbcRepository orderJdbcRepository;
+
     private final OutboxRepository outboxRepository;
 
+    private final OutboxJdbcRepository outboxJdbcRepository;
+
     private final ObjectMapper objectMapper;
 
+    private final EventCodecs eventCodecs;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final OrderStatusCache orderStatusCache;
+
+    private final OrderStatusNotifier orderStatusNotifier;
+
+    private final OrderMetrics orderMetrics;
+
+    private final EventTracing eventTracing;
+
+    @Value("${orders.listing.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${orders.listing.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${orders.listing.stream-fetch-size:500}")
+    private int streamFetchSize;
+
+    @Value("${orders.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${orders.status-await.default-timeout:30s}")
+    private Duration defaultAwaitTimeout;
+
+    @Value("${orders.status-await.max-timeout:60s}")
+    private Duration maxAwaitTimeout;
 
     public OrdersService(OrderRepository orderRepository,
+                         OrderJdbcRepository orderJdbcRepository,
                          OutboxRepository outboxRepository,
-                         ObjectMapper objectMapper) {
+                         OutboxJdbcRepository outboxJdbcRepository,
+                         ObjectMapper objectMapper,
+                         EventCodecs eventCodecs,
+                         ApplicationEventPublisher eventPublisher,
+                         OrderStatusCache orderStatusCache,
+                         OrderStatusNotifier orderStatusNotifier,
+                         OrderMetrics orderMetrics,
+                         EventTracing eventTracing) {
         this.orderRepository = orderRepository;
+        this.orderJdbcRepository = orderJdbcRepository;
         this.outboxRepository = outboxRepository;
+        this.outboxJdbcRepository = outboxJdbcRepository;
         this.objectMapper = objectMapper;
+        this.eventCodecs = eventCodecs;
+        this.eventPublisher = eventPublisher;
+        this.orderStatusCache = orderStatusCache;
+        this.orderStatusNotifier = orderStatusNotifier;
+        this.orderMetrics = orderMetrics;
+        this.eventTracing = eventTracing;
     }
 
     @Transactional
-    public OrderDto createOrder(UUID userId, BigDecimal amount, String description) {
-        if (userId == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public OrderDto createOrder(UUID userId, Money amount, String description) {
+        if (userId == null || amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Illegal data");
         }
 
-        UUID orderId;
-
-        boolean idExists;
-        do {
-            orderId = UUID.randomUUID();
-            idExists = orderRepository.existsById(orderId);
-        } while (idExists);
-
         OrderEntity order = OrderEntity.builder()
-                .id(orderId)
                 .userId(userId)
                 .amount(amount)
                 .description(description)
@@ -61,81 +124,183 @@ public class OrdersService {
                 .build();
 
         OrderEntity savedOrder = orderRepository.save(order);
+        OutboxEntity outbox = buildOrderCreatedOutbox(savedOrder);
+        outboxRepository.save(outbox);
+        eventPublisher.publishEvent(new OutboxSavedEvent(outbox));
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder.getId(), savedOrder.getStatus()));
 
-        try {
-            String payload = objectMapper.writeValueAsString(new OrderCreatedEvent(
-                    savedOrder.getId(),
-                    savedOrder.getUserId(),
-                    savedOrder.getAmount()
-            ));
-            OutboxEntity outbox = OutboxEntity.builder()
-                    .aggregateId(savedOrder.getId())
-                    .aggregateType("Order")
-                    .eventType("ORDER_CREATED")
-                    .payload(payload)
-                    .processed(false)
+        return OrderMapper.toDto(savedOrder);
+    }
+
+    @Transactional
+    public List<OrderBatchItemResult> createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("The batch has to contain between 1 and " + maxBatchSize + " orders");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderBatchItemResult> results = new ArrayList<>(requests.size());
+        List<OrderEntity> orders = new ArrayList<>(requests.size());
+        List<OutboxEntity> outboxEvents = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateOrderRequest request = requests.get(i);
+            Money amount;
+            try {
+                amount = request == null ? null : Money.of(request.amount());
+            } catch (IllegalArgumentException e) {
+                results.add(rejected(i, e.getMessage()));
+                continue;
+            }
+            if (request == null || request.userId() == null) {
+                results.add(rejected(i, "The user id is required"));
+                continue;
+            }
+            if (amount == null || !amount.isPositive()) {
+                results.add(rejected(i, "The amount has to be positive"));
+                continue;
+            }
+
+            OrderEntity order = OrderEntity.builder()
+                    .id(UuidV7.generate())
+                    .userId(request.userId())
+                    .amount(amount)
+                    .description(request.description())
+                    .status(OrderStatus.NEW)
+                    .createdAt(now)
                     .build();
-            outboxRepository.save(outbox);
-        } catch (JsonProcessingException e) {
-            throw new OrdersException("Event serialization error", e);
+            OutboxEntity outbox = buildOrderCreatedOutbox(order);
+            outbox.setId(UuidV7.generate());
+            outbox.setOccurredOn(now);
+
+            orders.add(order);
+            outboxEvents.add(outbox);
+            results.add(OrderBatchItemResult.builder()
+                    .index(i)
+                    .created(true)
+                    .order(OrderMapper.toDto(order))
+                    .build());
         }
 
-        return OrderDto.builder()
-                .id(savedOrder.getId())
-                .userId(savedOrder.getUserId())
-                .amount(savedOrder.getAmount())
-                .description(savedOrder.getDescription())
-                .status(savedOrder.getStatus())
-                .createdAt(savedOrder.getCreatedAt())
-                .updatedAt(savedOrder.getUpdatedAt())
-                .build();
+        orderJdbcRepository.insertAll(orders);
+        outboxJdbcRepository.insertAll(outboxEvents);
+        outboxEvents.forEach(outbox -> eventPublisher.publishEvent(new OutboxSavedEvent(outbox)));
+        orders.forEach(order -> eventPublisher.publishEvent(
+                new OrderStatusChangedEvent(order.getId(), order.getStatus())));
+
+        return results;
     }
 
-    @Transactional
-    public List<OrderDto> viewOrdersList() {
-        return orderRepository.findAll().stream().map(order -> OrderDto.builder()
-                    .id(order.getId())
-                    .userId(order.getUserId())
-                    .amount(order.getAmount())
-                    .description(order.getDescription())
-                    .status(order.getStatus())
-                    .createdAt(order.getCreatedAt())
-                    .updatedAt(order.getUpdatedAt())
-                    .build()
-        ).toList();
+    @Transactional(readOnly = true)
+    public OrderPageDto viewOrdersPage(UUID userId, OrderFilter filter, String cursor, Integer pageSize) {
+        int limit = pageSize == null ? defaultPageSize : pageSize;
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("The page size has to be between 1 and " + maxPageSize);
+        }
+
+        List<OrderDto> orders = orderJdbcRepository.findPage(userId, filter, OrderCursor.decode(cursor), limit + 1);
+        boolean hasMore = orders.size() > limit;
+        List<OrderDto> items = hasMore ? orders.subList(0, limit) : orders;
+
+        return OrderPageDto.builder()
+                .items(items)
+                .nextCursor(hasMore ? OrderCursor.of(items.get(limit - 1)).encode() : null)
+                .build();
     }
 
-    @Transactional
-    public List<OrderDto> viewOrdersListByUserId(UUID userId) {
-        return orderRepository.findByUserId(userId).stream().map(order -> OrderDto.builder()
-                .id(order.getId())
-                .userId(order.getUserId())
-                .amount(order.getAmount())
-                .description(order.getDescription())
-                .status(order.getStatus())
-                .createdAt(order.getCreatedAt())
-                .updatedAt(order.getUpdatedAt())
-                .build()
-        ).toList();
+    @Transactional(readOnly = true)
+    public void streamOrders(UUID userId, OrderFilter filter, OutputStream out) {
+        orderJdbcRepository.streamOrders(userId, filter, streamFetchSize, order -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(order));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
-    @Transactional
     public OrderStatus viewOrderStatus(UUID id) {
-        OrderEntity order = orderRepository.findById(id).orElseThrow(() -> new OrderNotFoundException(
-                "The order was not found with id: " + id
-        ));
+        OrderStatus status = orderStatusCache.get(id, orderId -> orderRepository.findStatusById(orderId).orElse(null));
+        if (status == null) {
+            throw new OrderNotFoundException("The order was not found with id: " + id);
+        }
+
+        return status;
+    }
+
+    public DeferredResult<OrderStatus> awaitOrderStatus(UUID id, Duration timeout) {
+        Duration effectiveTimeout = timeout == null ? defaultAwaitTimeout : timeout;
+        if (effectiveTimeout.isNegative() || effectiveTimeout.compareTo(maxAwaitTimeout) > 0) {
+            throw new IllegalArgumentException("The timeout has to be between 0 and " + maxAwaitTimeout.toSeconds() + "s");
+        }
 
-        return order.getStatus();
+        OrderStatus status = viewOrderStatus(id);
+        if (status != OrderStatus.NEW || effectiveTimeout.isZero()) {
+            DeferredResult<OrderStatus> result = new DeferredResult<>();
+            result.setResult(status);
+            return result;
+        }
+
+        DeferredResult<OrderStatus> result = orderStatusNotifier.registerWaiter(id, effectiveTimeout);
+        status = viewOrderStatus(id);
+        if (status != OrderStatus.NEW) {
+            result.setResult(status);
+        }
+        return result;
+    }
+
+    public SseEmitter streamOrderStatusEvents(UUID userId) {
+        return orderStatusNotifier.registerEmitter(userId);
     }
 
     @Transactional
     public void updateOrderStatus(PaymentProcessedEvent event, boolean finished) {
+        OrderStatusUpdateEvent updateEvent = new OrderStatusUpdateEvent();
+        updateEvent.begin();
         orderRepository.findById(event.orderId()).ifPresent(order -> {
-            if (order.getStatus() == OrderStatus.NEW) {
+            boolean transitioned = order.getStatus() == OrderStatus.NEW;
+            if (transitioned) {
                 order.setStatus(finished ? OrderStatus.FINISHED : OrderStatus.CANCELLED);
                 order.setUpdatedAt(LocalDateTime.now());
                 orderRepository.save(order);
+                orderMetrics.recordSagaCompleted(order);
+            }
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), order.getStatus()));
+
+            if (updateEvent.shouldCommit()) {
+                updateEvent.orderId = order.getId().toString();
+                updateEvent.status = order.getStatus().name();
+                updateEvent.transitioned = transitioned;
+                updateEvent.commit();
             }
         });
     }
+
+    private OutboxEntity buildOrderCreatedOutbox(OrderEntity order) {
+        EncodedEvent encoded = eventCodecs.encode(new OrderCreatedEvent(
+                order.getId(),
+                order.getUserId(),
+                order.getAmount()
+        ));
+        return OutboxEntity.builder()
+                .aggregateId(order.getId())
+                .aggregateType("Order")
+                .eventType("ORDER_CREATED")
+                .messageKey(order.getUserId().toString())
+                .payload(encoded.payload())
+                .contentType(encoded.contentType())
+                .schemaVersion(encoded.schemaVersion())
+                .traceContext(eventTracing.currentContext())
+                .processed(false)
+                .build();
+    }
+
+    private static OrderBatchItemResult rejected(int index, String error) {
+        return OrderBatchItemResult.builder()
+                .index(index)
+                .created(false)
+                .error(error)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package hse.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class EventTracing {
+    private static final Propagator.Getter<Map<String, String>> MAP_GETTER = Map::get;
+    private static final Propagator.Setter<Map<String, String>> MAP_SETTER = Map::put;
+    private static final Propagator.Setter<Headers> HEADERS_SETTER = (headers, key, value) -> {
+        headers.remove(key);
+        headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+    };
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public EventTracing(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    public String currentContext() {
+        Span span = tracer.currentSpan();
+        if (span == null || span.isNoop()) {
+            return null;
+        }
+
+        Map<String, String> carrier = new LinkedHashMap<>();
+        propagator.inject(span.context(), carrier, MAP_SETTER);
+        return carrier.isEmpty() ? null : carrier.entrySet().stream()
+                .map(field -> field.getKey() + "=" + field.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    public Span startProducerSpan(String traceContext, String topic, LocalDateTime occurredOn, Headers headers) {
+        Span span = propagator.extract(parse(traceContext), MAP_GETTER)
+                .name(topic + " publish")
+                .kind(Span.Kind.PRODUCER)
+                .tag("messaging.system", "kafka")
+                .tag("messaging.destination.name", topic)
+                .tag("outbox.relay.delay.ms", String.valueOf(
+                        Math.max(Duration.between(occurredOn, LocalDateTime.now()).toMillis(), 0)))
+                .start();
+        propagator.inject(span.context(), headers, HEADERS_SETTER);
+        return span;
+    }
+
+    public void end(Span span, Throwable failure) {
+        if (failure != null) {
+            span.error(failure);
+        }
+        span.end();
+    }
+
+    private static Map<String, String> parse(String traceContext) {
+        Map<String, String> carrier = new LinkedHashMap<>();
+        if (traceContext == null || traceContext.isBlank()) {
+            return carrier;
+        }
+
+        for (String field : traceContext.split("\n")) {
+            int separator = field.indexOf('=');
+            if (separator > 0) {
+                carrier.put(field.substring(0, separator), field.substring(separator + 1));
+            }
+        }
+        return carrier;
+    }
+}
@@ -0,0 +1 @@
+ALTER TABLE outbox_event ADD COLUMN trace_context TEXT;
@@ -0,0 +1,25 @@
+DROP FUNCTION IF EXISTS create_outbox_event_partition(DATE);
+
+CREATE FUNCTION create_outbox_event_partition(partition_day DATE) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT := 'outbox_event_p' || to_char(partition_day, 'YYYYMMDD');
+    range_start TIMESTAMP := partition_day::timestamp;
+    range_end TIMESTAMP := (partition_day + 1)::timestamp;
+    moved INTEGER;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN 0;
+    END IF;
+
+    LOCK TABLE outbox_event_default IN SHARE ROW EXCLUSIVE MODE;
+
+    EXECUTE format('CREATE TABLE %I (LIKE outbox_event INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM outbox_event_default WHERE occurred_on >= %L AND occurred_on < %L RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved',
+                   range_start, range_end, partition_name);
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    EXECUTE format('ALTER TABLE outbox_event ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN moved;
+END;
+$$ LANGUAGE plpgsql;
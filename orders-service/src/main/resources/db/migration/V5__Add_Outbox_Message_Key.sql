@@ -0,0 +1,3 @@
+ALTER TABLE outbox_event ADD COLUMN IF NOT EXISTS message_key VARCHAR(255);
+
+UPDATE outbox_event SET message_key = payload ->> 'userId' WHERE message_key IS NULL;
@@ -0,0 +1,47 @@
+ALTER TABLE outbox_event RENAME TO outbox_event_legacy;
+ALTER TABLE outbox_event_legacy RENAME CONSTRAINT outbox_event_pkey TO outbox_event_legacy_pkey;
+DROP TRIGGER IF EXISTS outbox_event_notify ON outbox_event_legacy;
+DROP INDEX IF EXISTS idx_outbox_event_processed_occurred_on;
+DROP INDEX IF EXISTS idx_outbox_event_unprocessed;
+
+CREATE TABLE outbox_event (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload JSONB NOT NULL,
+    occurred_on TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    processed BOOLEAN DEFAULT FALSE,
+    PRIMARY KEY (id, occurred_on)
+) PARTITION BY RANGE (occurred_on);
+
+CREATE TABLE IF NOT EXISTS outbox_event_default PARTITION OF outbox_event DEFAULT;
+
+CREATE OR REPLACE FUNCTION create_outbox_event_partition(partition_day DATE) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox_event FOR VALUES FROM (%L) TO (%L)',
+                   'outbox_event_p' || to_char(partition_day, 'YYYYMMDD'),
+                   partition_day::timestamp,
+                   (partition_day + 1)::timestamp);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_outbox_event_partition(day::date)
+FROM generate_series(CURRENT_DATE - 1, CURRENT_DATE + 7, INTERVAL '1 day') AS day;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_unprocessed ON outbox_event (occurred_on) WHERE processed = false;
+
+CREATE TRIGGER outbox_event_notify
+    AFTER INSERT ON outbox_event
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_outbox_event();
+
+INSERT INTO outbox_event (id, aggregate_type, aggregate_id, event_type, message_key, payload, occurred_on, processed)
+SELECT id, aggregate_type, aggregate_id, event_type, message_key, payload, occurred_on, processed
+FROM outbox_event_legacy
+WHERE processed = false;
+
+CREATE SCHEMA IF NOT EXISTS outbox_archive;
+
+ALTER TABLE outbox_event_legacy SET SCHEMA outbox_archive;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_order_table_created_at_id ON order_table (created_at, id);
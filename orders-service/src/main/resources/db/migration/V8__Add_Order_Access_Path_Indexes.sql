@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_order_table_user_id_created_at_id ON order_table (user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_order_table_status_created_at_id ON order_table (status, created_at, id);
@@ -0,0 +1,16 @@
+CREATE OR REPLACE FUNCTION notify_order_status() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('order_status', json_build_object(
+            'orderId', NEW.id,
+            'userId', NEW.user_id,
+            'status', NEW.status
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER order_status_notify
+    AFTER UPDATE OF status ON order_table
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION notify_order_status();
@@ -0,0 +1,172 @@
+package hse.codec;
+
+import hse.event.OrderCreatedEvent;
+import hse.event.PaymentProcessedEvent;
+import hse.exception.EventCodecException;
+import hse.model.Money;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Component
+public class BinaryEventCodec implements EventCodec {
+    public static final String CONTENT_TYPE = "application/vnd.hse.event+binary";
+    private static final int ORDER_CREATED_VERSION = 1;
+    private static final int PAYMENT_PROCESSED_VERSION = 1;
+    private static final int UUID_BYTES = 16;
+    private static final int LENGTH_BYTES = Short.BYTES;
+    private static final short NULL_LENGTH = -1;
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion(Class<?> eventType) {
+        if (eventType == OrderCreatedEvent.class) {
+            return ORDER_CREATED_VERSION;
+        }
+        if (eventType == PaymentProcessedEvent.class) {
+            return PAYMENT_PROCESSED_VERSION;
+        }
+        throw unsupported(eventType);
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        if (event instanceof OrderCreatedEvent orderCreated) {
+            return encodeOrderCreated(orderCreated);
+        }
+        if (event instanceof PaymentProcessedEvent paymentProcessed) {
+            return encodePaymentProcessed(paymentProcessed);
+        }
+        throw unsupported(event.getClass());
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, int schemaVersion, Class<T> eventType) {
+        int supportedVersion = schemaVersion(eventType);
+        if (schemaVersion != supportedVersion) {
+            throw new EventCodecException("Unsupported schema version " + schemaVersion + " for "
+                    + eventType.getSimpleName() + ", expected " + supportedVersion);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        try {
+            Object event = eventType == OrderCreatedEvent.class
+                    ? decodeOrderCreated(buffer)
+                    : decodePaymentProcessed(buffer);
+            if (buffer.hasRemaining()) {
+                throw new EventCodecException("Unexpected " + buffer.remaining() + " trailing bytes in "
+                        + eventType.getSimpleName() + " payload");
+            }
+            return eventType.cast(event);
+        } catch (BufferUnderflowException e) {
+            throw new EventCodecException("Truncated " + eventType.getSimpleName() + " payload", e);
+        }
+    }
+
+    private byte[] encodeOrderCreated(OrderCreatedEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES * 2 + Long.BYTES);
+        putUuid(buffer, event.id());
+        putUuid(buffer, event.userId());
+        buffer.putLong(event.amount().minorUnits());
+        return buffer.array();
+    }
+
+    private OrderCreatedEvent decodeOrderCreated(ByteBuffer buffer) {
+        return new OrderCreatedEvent(
+                getUuid(buffer),
+                getUuid(buffer),
+                Money.ofMinor(buffer.getLong())
+        );
+    }
+
+    private byte[] encodePaymentProcessed(PaymentProcessedEvent event) {
+        byte[] paymentStatus = toUtf8(event.paymentStatus());
+        byte[] reason = toUtf8(event.reason());
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES * 3 + Long.BYTES
+                + LENGTH_BYTES + length(paymentStatus)
+                + LENGTH_BYTES + length(reason));
+        putUuid(buffer, event.orderId());
+        putUuid(buffer, event.userId());
+        buffer.putLong(event.amount().minorUnits());
+        putUuid(buffer, event.paymentId());
+        putString(buffer, paymentStatus);
+        putString(buffer, reason);
+        return buffer.array();
+    }
+
+    private PaymentProcessedEvent decodePaymentProcessed(ByteBuffer buffer) {
+        return new PaymentProcessedEvent(
+                getUuid(buffer),
+                getUuid(buffer),
+                Money.ofMinor(buffer.getLong()),
+                getUuid(buffer),
+                getString(buffer),
+                getString(buffer)
+        );
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits());
+        buffer.putLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] toUtf8(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new EventCodecException("String field of " + bytes.length + " bytes exceeds the binary format limit");
+        }
+        return bytes;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort(NULL_LENGTH);
+            return;
+        }
+
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0) {
+            throw new EventCodecException("Negative string length " + length + " in binary payload");
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static EventCodecException unsupported(Class<?> eventType) {
+        return new EventCodecException("Binary codec does not support " + eventType.getSimpleName());
+    }
+}
@@ -0,0 +1,7 @@
+package hse.codec;
+
+public record EncodedEvent(
+        byte[] payload,
+        String contentType,
+        int schemaVersion
+) {}
@@ -0,0 +1,51 @@
+package hse.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.exception.EventCodecException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class JsonEventCodec implements EventCodec {
+    public static final String CONTENT_TYPE = "application/json";
+    private static final int SCHEMA_VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public int schemaVersion(Class<?> eventType) {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new EventCodecException("Event serialization error", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, int schemaVersion, Class<T> eventType) {
+        try {
+            return objectMapper.readValue(payload, eventType);
+        } catch (IOException e) {
+            throw new EventCodecException("Malformed JSON payload for " + eventType.getSimpleName(), e);
+        }
+    }
+}
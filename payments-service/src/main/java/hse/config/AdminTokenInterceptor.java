@@ -0,0 +1,40 @@
+package hse.config;
+
+import hse.exception.AdminAccessDeniedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@Component
+@Slf4j
+public class AdminTokenInterceptor implements HandlerInterceptor {
+    static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] adminToken;
+
+    public AdminTokenInterceptor(@Value("${admin.token:}") String adminToken) {
+        this.adminToken = adminToken.isBlank() ? new byte[0] : adminToken.getBytes(StandardCharsets.UTF_8);
+        if (this.adminToken.length == 0) {
+            log.warn("admin.token is not set. All /admin endpoints will reject requests until ADMIN_TOKEN is configured.");
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (adminToken.length == 0) {
+            throw new AdminAccessDeniedException("Admin endpoints are disabled because no admin token is configured");
+        }
+
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new AdminAccessDeniedException("A valid " + ADMIN_TOKEN_HEADER + " header is required");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package hse.config;
+
+import hse.exception.EventCodecException;
+import hse.model.DeadLetterEntity;
+import hse.service.DeadLetterService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+@Configuration
+@Slf4j
+public class KafkaErrorHandlingConfig {
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterService deadLetterService,
+                                                 @Value("${kafka.retry.attempts:2}") int attempts,
+                                                 @Value("${kafka.retry.delay-ms:200}") long delayMs,
+                                                 @Value("${kafka.retry.multiplier:2.0}") double multiplier,
+                                                 @Value("${kafka.retry.max-delay-ms:1000}") long maxDelayMs) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(attempts - 1, 0));
+        backOff.setInitialInterval(delayMs);
+        backOff.setMultiplier(multiplier);
+        backOff.setMaxInterval(maxDelayMs);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler((consumerRecord, exception) -> {
+            @SuppressWarnings("unchecked")
+            DeadLetterEntity deadLetter = deadLetterService.store(
+                    (ConsumerRecord<String, byte[]>) consumerRecord, exception);
+            log.error("Message from topic '{}' with key {} exhausted its retries and was stored as dead letter {}: {}",
+                    consumerRecord.topic(), consumerRecord.key(), deadLetter.getId(), deadLetter.getErrorMessage());
+        }, backOff);
+        errorHandler.addNotRetryableExceptions(EventCodecException.class);
+        return errorHandler;
+    }
+}
@@ -0,0 +1,81 @@
+package hse.controller;
+
+import hse.service.PaymentsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Tag(name = "Распределение баланса", description = "Служебный API для разбиения баланса горячих счетов на полосы.")
+@RestController
+@RequestMapping("/admin/accounts")
+@RequiredArgsConstructor
+public class AccountStripesController {
+    private final PaymentsService paymentsService;
+
+    @PostMapping("/{userId}/stripes/{stripeCount}")
+    @Operation(summary = "Разбить баланс на полосы",
+            description = "Переводит счет в режим полос: баланс равномерно распределяется по указанному числу строк, " +
+                    "чтобы параллельные списания не блокировали одну строку. Повторный вызов перераспределяет баланс.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Баланс успешно перераспределен",
+                    content = @Content(mediaType = "text/plain", schema = @Schema(
+                            type = "string",
+                            example = "The account of user a1b2c3d4-e5f6-7890-1234-567890abcdef now uses 8 stripes"
+                    ))),
+            @ApiResponse(responseCode = "400", description = "Неверное число полос",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "404", description = "Учетная запись пользователя не найдена",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<String> stripeAccount(
+            @Parameter(
+                    description = "Уникальный идентификатор пользователя (UUID)",
+                    required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
+            )
+            @PathVariable UUID userId,
+            @Parameter(
+                    description = "Число полос (0 или 1 возвращают счет к одной строке)",
+                    required = true, example = "8"
+            )
+            @PathVariable int stripeCount) {
+        paymentsService.stripeAccount(userId, stripeCount);
+        return ResponseEntity.ok("The account of user " + userId + " now uses " + stripeCount + " stripes");
+    }
+
+    @DeleteMapping("/{userId}/stripes")
+    @Operation(summary = "Собрать баланс в одну строку",
+            description = "Суммирует все полосы счета и возвращает его к обычному режиму с одной строкой баланса.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Баланс успешно собран",
+                    content = @Content(mediaType = "text/plain", schema = @Schema(
+                            type = "string",
+                            example = "The account of user a1b2c3d4-e5f6-7890-1234-567890abcdef has been collapsed"
+                    ))),
+            @ApiResponse(responseCode = "404", description = "Учетная запись пользователя не найдена",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<String> collapseAccount(
+            @Parameter(
+                    description = "Уникальный идентификатор пользователя (UUID)",
+                    required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
+            )
+            @PathVariable UUID userId) {
+        paymentsService.stripeAccount(userId, 0);
+        return ResponseEntity.ok("The account of user " + userId + " has been collapsed");
+    }
+}
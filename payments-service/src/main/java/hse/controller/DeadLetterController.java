@@ -0,0 +1,99 @@
+package hse.controller;
+
+import hse.dto.DeadLetterDto;
+import hse.service.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Недоставленные сообщения", description = "Служебный API для просмотра и повторной отправки сообщений, " +
+        "исчерпавших повторные попытки. Требует заголовок X-Admin-Token.")
+@RestController
+@RequestMapping("/admin/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    @Operation(summary = "Список недоставленных сообщений",
+            description = "Возвращает сообщения, которые не удалось обработать после всех повторных попыток. " +
+                    "По умолчанию только еще не отправленные повторно, начиная с самых старых.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список сообщений",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(
+                            implementation = DeadLetterDto.class
+                    )))),
+            @ApiResponse(responseCode = "400", description = "Недопустимый размер списка",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<List<DeadLetterDto>> viewDeadLetters(
+            @Parameter(description = "Включать уже отправленные повторно сообщения", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeReplayed,
+            @Parameter(description = "Максимальное число сообщений", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(deadLetterService.viewDeadLetters(includeReplayed, limit));
+    }
+
+    @PostMapping("/{id}/replay")
+    @Operation(summary = "Повторно отправить сообщение",
+            description = "Публикует сообщение в исходный топик с исходными ключом и заголовками.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Сообщение отправлено",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = DeadLetterDto.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "404", description = "Сообщение не найдено",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<DeadLetterDto> replay(
+            @Parameter(description = "Идентификатор недоставленного сообщения", required = true)
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(deadLetterService.replay(id));
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "Повторно отправить ожидающие сообщения",
+            description = "Публикует в исходные топики самые старые еще не отправленные повторно сообщения.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Отправленные сообщения",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(
+                            implementation = DeadLetterDto.class
+                    )))),
+            @ApiResponse(responseCode = "400", description = "Недопустимый размер пакета",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<List<DeadLetterDto>> replayPending(
+            @Parameter(description = "Максимальное число сообщений", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(deadLetterService.replayPending(limit));
+    }
+}
@@ -1,5 +1,6 @@
 package hse.controller;
 
+import hse.model.Money;
 import hse.service.PaymentsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -92,7 +93,7 @@ public class PaymentsController {
                     required = true, example = "100.50"
             )
             @PathVariable BigDecimal amount) {
-        paymentsService.topUpBalance(userId, amount);
+        paymentsService.topUpBalance(userId, Money.of(amount));
         return ResponseEntity.ok("The balance of user " + userId + " has been successfully increased by " + amount);
     }
 
@@ -119,6 +120,6 @@ public class PaymentsController {
                     required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"
             )
             @PathVariable UUID userId) {
-        return ResponseEntity.ok(paymentsService.getBalance(userId));
+        return ResponseEntity.ok(paymentsService.getBalance(userId).toBigDecimal());
     }
 }
\ No newline at end of file
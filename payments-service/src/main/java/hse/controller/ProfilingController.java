@@ -0,0 +1,123 @@
+package hse.controller;
+
+import hse.service.ProfilingService;
+import hse.service.ProfilingService.ProfilingStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Tag(name = "Профилирование", description = "Служебный API для записи Java Flight Recorder. " +
+        "Требует заголовок X-Admin-Token.")
+@RestController
+@RequestMapping("/admin/profiling")
+@RequiredArgsConstructor
+public class ProfilingController {
+    private final ProfilingService profilingService;
+
+    @GetMapping
+    @Operation(summary = "Состояние записи", description = "Возвращает состояние текущей или последней записи JFR.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Состояние записи",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = ProfilingStatus.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<ProfilingStatus> status() {
+        return ResponseEntity.ok(profilingService.status());
+    }
+
+    @PostMapping("/start")
+    @Operation(summary = "Начать запись",
+            description = "Запускает запись JFR с ограниченными длительностью и размером. " +
+                    "По истечении длительности запись останавливается сама.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Запись запущена",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = ProfilingStatus.class
+                    ))),
+            @ApiResponse(responseCode = "400", description = "Недопустимая длительность",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "409", description = "Запись уже идет",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<ProfilingStatus> start(
+            @Parameter(description = "Длительность записи в секундах (по умолчанию максимальная)", example = "120")
+            @RequestParam(required = false) Integer duration) {
+        return ResponseEntity.ok(profilingService.start(duration == null ? null : Duration.ofSeconds(duration)));
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Остановить запись", description = "Останавливает запись, сохраняя ее данные для выгрузки.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Запись остановлена",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = ProfilingStatus.class
+                    ))),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "409", description = "Запись не запускалась",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<ProfilingStatus> stop() {
+        return ResponseEntity.ok(profilingService.stop());
+    }
+
+    @GetMapping("/dump")
+    @Operation(summary = "Выгрузить запись",
+            description = "Возвращает файл .jfr с данными текущей или остановленной записи.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Файл записи",
+                    content = @Content(mediaType = "application/octet-stream")),
+            @ApiResponse(responseCode = "401", description = "Неверный токен администратора",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    ))),
+            @ApiResponse(responseCode = "409", description = "Нет записи для выгрузки",
+                    content = @Content(mediaType = "application/json", schema = @Schema(
+                            implementation = CommonErrorResponse.class
+                    )))
+    })
+    public ResponseEntity<StreamingResponseBody> dump() {
+        Path file = profilingService.dump();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(out -> {
+                    try {
+                        Files.copy(file, out);
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                });
+    }
+}
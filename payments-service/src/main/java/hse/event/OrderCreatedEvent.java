@@ -1,10 +1,11 @@
 package hse.event;
 
-import java.math.BigDecimal;
+import hse.model.Money;
+
 import java.util.UUID;
 
 public record OrderCreatedEvent(
         UUID id,
         UUID userId,
-        BigDecimal amount
+        Money amount
 ) {}
@@ -0,0 +1,7 @@
+package hse.event;
+
+import hse.model.OutboxEntity;
+
+public record OutboxSavedEvent(
+        OutboxEntity outbox
+) {}
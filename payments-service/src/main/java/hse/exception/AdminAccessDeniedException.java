@@ -0,0 +1,7 @@
+package hse.exception;
+
+public class AdminAccessDeniedException extends PaymentsException {
+    public AdminAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package hse.exception;
+
+public class DeadLetterNotFoundException extends PaymentsException {
+    public DeadLetterNotFoundException(String message) {
+        super(message);
+    }
+}
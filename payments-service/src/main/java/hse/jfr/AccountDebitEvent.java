@@ -0,0 +1,28 @@
+package hse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hse.payments.AccountDebit")
+@Label("Account Debit")
+@Category({"HSE", "Payments"})
+@Description("Debits an account for an order")
+@StackTrace(false)
+public class AccountDebitEvent extends Event {
+    @Label("User Id")
+    public String userId;
+
+    @Label("Amount")
+    @Description("Amount in minor currency units")
+    public long amount;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Striped")
+    public boolean striped;
+}
@@ -0,0 +1,24 @@
+package hse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("hse.payments.InboxDedup")
+@Label("Inbox Dedup")
+@Category({"HSE", "Payments", "Inbox"})
+@Description("Checks consumed messages against the recent-ID cache and inserts the rest into the inbox")
+@StackTrace(false)
+public class InboxDedupEvent extends Event {
+    @Label("Messages")
+    public int messages;
+
+    @Label("Cache Hits")
+    public int cacheHits;
+
+    @Label("Database Duplicates")
+    public int databaseDuplicates;
+}
@@ -0,0 +1,137 @@
+package hse.listener;
+
+import hse.codec.EventCodecs;
+import hse.event.OrderCreatedEvent;
+import hse.exception.EventCodecException;
+import hse.metrics.ListenerMetrics;
+import hse.service.PaymentsBatchService;
+import hse.service.PaymentsBatchService.IncomingOrder;
+import hse.tracing.EventTracing;
+import io.micrometer.tracing.Span;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "kafka.listeners.order-created.batch", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCreatedBatchListener {
+    private final PaymentsBatchService paymentsBatchService;
+    private final EventCodecs eventCodecs;
+    private final ListenerMetrics listenerMetrics;
+    private final EventTracing eventTracing;
+
+    @KafkaListener(topics = "order.created",
+            groupId = "payments-service-group",
+            concurrency = "${kafka.listeners.order-created.concurrency:3}",
+            batch = "true")
+    public void listenOrderCreatedBatch(List<ConsumerRecord<String, byte[]>> consumerRecords, Acknowledgment ack) {
+        long startNanos = System.nanoTime();
+        consumerRecords.forEach(listenerMetrics::recordAge);
+        log.info("Received batch of {} messages from Kafka topic 'order.created'", consumerRecords.size());
+
+        List<Span> spans = new ArrayList<>(consumerRecords.size());
+        RuntimeException failure = null;
+        try {
+            processBatch(consumerRecords, spans, ack);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            listenerMetrics.recordProcessing("order-created-batch", startNanos, failure == null);
+            for (Span span : spans) {
+                eventTracing.end(span, failure);
+            }
+        }
+    }
+
+    private void processBatch(List<ConsumerRecord<String, byte[]>> consumerRecords, List<Span> spans,
+                              Acknowledgment ack) {
+        List<IncomingOrder> orders = new ArrayList<>(consumerRecords.size());
+        List<Integer> recordIndexes = new ArrayList<>(consumerRecords.size());
+        BatchListenerFailedException decodeFailure = null;
+        for (int i = 0; i < consumerRecords.size() && decodeFailure == null; i++) {
+            ConsumerRecord<String, byte[]> consumerRecord = consumerRecords.get(i);
+            String messageId = resolveMessageId(consumerRecord);
+            byte[] payload = consumerRecord.value();
+
+            if (payload == null || payload.length == 0) {
+                log.error("Received an empty or null payload for message ID {}. Skipping processing.", messageId);
+                continue;
+            }
+
+            Span span = eventTracing.startConsumerSpan(consumerRecord);
+            spans.add(span);
+            try {
+                String contentType = eventCodecs.contentType(consumerRecord);
+                int schemaVersion = eventCodecs.schemaVersion(consumerRecord);
+                OrderCreatedEvent event = eventCodecs.decode(payload, contentType, schemaVersion, OrderCreatedEvent.class);
+                orders.add(new IncomingOrder(messageId, consumerRecord.topic(), payload, contentType, schemaVersion,
+                        eventTracing.contextOf(span), event));
+                recordIndexes.add(i);
+            } catch (EventCodecException e) {
+                log.error("Error decoding message payload of {} bytes. Message ID: {}", payload.length, messageId, e);
+                decodeFailure = new BatchListenerFailedException(
+                        "Error processing Kafka message due to payload decoding failure", e, i);
+            }
+        }
+
+        processOrders(orders, recordIndexes);
+        if (decodeFailure != null) {
+            throw decodeFailure;
+        }
+
+        ack.acknowledge();
+        log.info("Successfully processed and acknowledged batch of {} messages.", consumerRecords.size());
+    }
+
+    private void processOrders(List<IncomingOrder> orders, List<Integer> recordIndexes) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        try {
+            paymentsBatchService.processOrderPayments(orders);
+            return;
+        } catch (Exception e) {
+            log.warn("Error processing OrderCreated batch of {} messages: {}. Processing them one by one.",
+                    orders.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            IncomingOrder order = orders.get(i);
+            try {
+                paymentsBatchService.processOrderPayments(List.of(order));
+            } catch (Exception e) {
+                log.error("Error processing OrderCreated event for message ID {}: {}",
+                        order.messageId(), e.getMessage(), e);
+                throw new BatchListenerFailedException("Error processing Kafka message", e, recordIndexes.get(i));
+            }
+        }
+    }
+
+    private String resolveMessageId(ConsumerRecord<String, byte[]> consumerRecord) {
+        if (consumerRecord.headers().lastHeader("id") != null) {
+            return new String(consumerRecord.headers().lastHeader("id").value());
+        }
+
+        if (consumerRecord.key() != null && !consumerRecord.key().isEmpty()) {
+            log.warn("Kafka record has no 'id' header. Using record key for messageId: {}", consumerRecord.key());
+            return consumerRecord.key();
+        }
+
+        String messageId = UUID.randomUUID().toString();
+        log.warn("Neither 'id' header nor Kafka record key available. Generated random UUID for messageId: {}", messageId);
+        return messageId;
+    }
+}
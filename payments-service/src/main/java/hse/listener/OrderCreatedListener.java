@@ -1,43 +1,54 @@
 package hse.listener;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.EventCodecs;
 import hse.event.OrderCreatedEvent;
+import hse.exception.EventCodecException;
 import hse.exception.PaymentsException;
+import hse.jfr.InboxDedupEvent;
+import hse.metrics.ListenerMetrics;
 import hse.model.InboxEntity;
-import hse.repository.InboxRepository;
+import hse.repository.InboxJdbcRepository;
+import hse.service.InboxDeduplicator;
 import hse.service.PaymentsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "kafka.listeners.order-created.batch", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class OrderCreatedListener {
-    private final InboxRepository inboxRepository;
+    private final InboxJdbcRepository inboxJdbcRepository;
+    private final InboxDeduplicator inboxDeduplicator;
     private final PaymentsService paymentsService;
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
+    private final ListenerMetrics listenerMetrics;
 
     @KafkaListener(topics = "order.created",
-            groupId = "payments-service-group")
+            groupId = "payments-service-group",
+            concurrency = "${kafka.listeners.order-created.concurrency:3}")
     @Transactional
-    public void listenOrderCreated(ConsumerRecord<String, String> consumerRecord, Acknowledgment ack) {
+    public void listenOrderCreated(ConsumerRecord<String, byte[]> consumerRecord, Acknowledgment ack) {
+        long startNanos = System.nanoTime();
+        listenerMetrics.recordAge(consumerRecord);
         String messageId;
 
-        if (consumerRecord.key() != null && !consumerRecord.key().isEmpty()) {
-            messageId = consumerRecord.key();
+        if (consumerRecord.headers().lastHeader("id") != null) {
+            messageId = new String(consumerRecord.headers().lastHeader("id").value());
         }
 
-        else if (consumerRecord.headers().lastHeader("id") != null) {
-            messageId = new String(consumerRecord.headers().lastHeader("id").value());
-            log.warn("Kafka record key is null or empty. Using 'id' header for messageId: {}", messageId);
+        else if (consumerRecord.key() != null && !consumerRecord.key().isEmpty()) {
+            messageId = consumerRecord.key();
+            log.warn("Kafka record has no 'id' header. Using record key for messageId: {}", messageId);
         }
 
         else {
@@ -46,46 +57,77 @@ public class OrderCreatedListener {
         }
 
         String topic = consumerRecord.topic();
-        String payload = consumerRecord.value();
+        byte[] payload = consumerRecord.value();
 
         log.info("Received message from Kafka topic '{}' with key '{}', offset '{}', messageId: {}",
                 topic, consumerRecord.key(), consumerRecord.offset(), messageId);
 
-        if (inboxRepository.findByMessageId(messageId).isPresent()) {
+        InboxDedupEvent cacheDedupEvent = new InboxDedupEvent();
+        cacheDedupEvent.begin();
+        if (inboxDeduplicator.isKnownDuplicate(messageId)) {
+            commitDedupEvent(cacheDedupEvent, true, false);
             log.warn("Message with ID {} already processed. Skipping.", messageId);
             ack.acknowledge();
+            listenerMetrics.recordProcessing("order-created", startNanos, true);
             return;
         }
 
+        boolean failed = false;
         try {
-            if (payload == null || payload.trim().isEmpty()) {
+            if (payload == null || payload.length == 0) {
                 log.error("Received an empty or null payload for message ID {}. Skipping processing.", messageId);
                 ack.acknowledge();
                 return;
             }
 
+            String contentType = eventCodecs.contentType(consumerRecord);
+            int schemaVersion = eventCodecs.schemaVersion(consumerRecord);
+            OrderCreatedEvent orderCreatedEvent = eventCodecs.decode(payload, contentType, schemaVersion,
+                    OrderCreatedEvent.class);
+
             InboxEntity inbox = InboxEntity.builder()
                     .messageId(messageId)
                     .topic(topic)
                     .payload(payload)
-                    .processed(false)
+                    .contentType(contentType)
+                    .schemaVersion(schemaVersion)
+                    .processed(true)
                     .build();
-            inboxRepository.save(inbox);
+            InboxDedupEvent databaseDedupEvent = new InboxDedupEvent();
+            databaseDedupEvent.begin();
+            boolean inserted = inboxJdbcRepository.insertIfAbsent(inbox);
+            commitDedupEvent(databaseDedupEvent, false, !inserted);
+            if (!inserted) {
+                inboxDeduplicator.recordDatabaseDuplicate(messageId);
+                log.warn("Message with ID {} already processed. Skipping.", messageId);
+                ack.acknowledge();
+                return;
+            }
 
-            OrderCreatedEvent orderCreatedEvent = objectMapper.readValue(payload, OrderCreatedEvent.class);
             paymentsService.processOrderPayment(orderCreatedEvent);
-
-            inbox.setProcessed(true);
-            inboxRepository.save(inbox);
+            inboxDeduplicator.rememberAfterCommit(List.of(messageId));
 
             ack.acknowledge();
             log.info("Successfully processed message with ID {} and acknowledged.", messageId);
-        } catch (JsonProcessingException e) {
-            log.error("Error deserializing message payload: {}. Message ID: {}", payload, messageId, e);
-            throw new PaymentsException("Error processing Kafka message due to JSON deserialization failure", e);
+        } catch (EventCodecException e) {
+            failed = true;
+            log.error("Error decoding message payload of {} bytes. Message ID: {}", payload.length, messageId, e);
+            throw new PaymentsException("Error processing Kafka message due to payload decoding failure", e);
         } catch (Exception e) {
+            failed = true;
             log.error("Error processing OrderCreated event for message ID {}: {}", messageId, e.getMessage(), e);
             throw new PaymentsException("Error processing Kafka message", e);
+        } finally {
+            listenerMetrics.recordProcessing("order-created", startNanos, !failed);
+        }
+    }
+
+    private static void commitDedupEvent(InboxDedupEvent event, boolean cacheHit, boolean databaseDuplicate) {
+        if (event.shouldCommit()) {
+            event.messages = 1;
+            event.cacheHits = cacheHit ? 1 : 0;
+            event.databaseDuplicates = databaseDuplicate ? 1 : 0;
+            event.commit();
         }
     }
 }
\ No newline at end of file
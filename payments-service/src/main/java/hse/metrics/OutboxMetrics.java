@@ -0,0 +1,77 @@
+package hse.metrics;
+
+import hse.model.OutboxEntity;
+import hse.repository.OutboxJdbcRepository;
+import hse.repository.OutboxJdbcRepository.Backlog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class OutboxMetrics {
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final Timer acknowledged;
+    private final Timer rejected;
+    private final Timer publishLag;
+
+    public OutboxMetrics(OutboxJdbcRepository outboxJdbcRepository, MeterRegistry meterRegistry) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        Gauge.builder("outbox.backlog.size", backlogSize, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog.oldest.age", oldestAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest outbox event waiting to be published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.acknowledged = ackTimer(meterRegistry, "acknowledged");
+        this.rejected = ackTimer(meterRegistry, "failed");
+        this.publishLag = Timer.builder("outbox.publish.lag")
+                .description("Time from writing an outbox event to its Kafka acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.backlog-sample-interval-ms:5000}")
+    public void sampleBacklog() {
+        try {
+            Backlog backlog = outboxJdbcRepository.findBacklog();
+            backlogSize.set(backlog.size());
+            oldestAgeMillis.set(backlog.oldestOccurredOn() == null
+                    ? 0
+                    : Math.max(Duration.between(backlog.oldestOccurredOn(), LocalDateTime.now()).toMillis(), 0));
+        } catch (Exception e) {
+            log.warn("Failed to sample the outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    public void recordPublish(OutboxEntity event, long sendStartNanos, Throwable failure) {
+        long elapsedNanos = System.nanoTime() - sendStartNanos;
+        if (failure != null) {
+            rejected.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        acknowledged.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        long lagMillis = Duration.between(event.getOccurredOn(), LocalDateTime.now()).toMillis();
+        publishLag.record(Math.max(lagMillis, 0), TimeUnit.MILLISECONDS);
+    }
+
+    private static Timer ackTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("outbox.publish.ack")
+                .description("Time from handing an outbox event to the Kafka producer to the broker response")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
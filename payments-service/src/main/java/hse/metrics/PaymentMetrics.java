@@ -0,0 +1,34 @@
+package hse.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class PaymentMetrics {
+    private static final String SUCCESS = "SUCCESS";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> debitOutcomes = new ConcurrentHashMap<>();
+
+    public PaymentMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        List.of(SUCCESS, "ACCOUNT_NOT_FOUND", "INSUFFICIENT_FUNDS")
+                .forEach(this::debitCounter);
+    }
+
+    public void recordDebit(String failureReason) {
+        debitCounter(failureReason == null ? SUCCESS : failureReason).increment();
+    }
+
+    private Counter debitCounter(String outcome) {
+        return debitOutcomes.computeIfAbsent(outcome, key -> Counter.builder("payments.debits")
+                .description("Order payment attempts by outcome")
+                .tag("outcome", key)
+                .register(meterRegistry));
+    }
+}
@@ -9,7 +9,6 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
@@ -24,5 +23,11 @@ public class AccountEntity {
     private UUID userId;
 
     @Column(name = "balance", precision = 19, scale = 2, nullable = false)
-    private BigDecimal balance = BigDecimal.ZERO;
+    private Money balance = Money.ZERO;
+
+    @Column(name = "stripe_count", nullable = false)
+    private int stripeCount;
+
+    @Column(name = "ledger_position", nullable = false)
+    private long ledgerPosition;
 }
\ No newline at end of file
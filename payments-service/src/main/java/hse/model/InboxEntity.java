@@ -5,8 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -29,9 +27,14 @@ public class InboxEntity {
     @Column(name = "topic", nullable = false)
     private String topic;
 
-    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
-    @JdbcTypeCode(SqlTypes.JSON)
-    private String payload;
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "schema_version", nullable = false)
+    private int schemaVersion;
 
     @Column(name = "received_at", nullable = false)
     @Builder.Default
@@ -0,0 +1,225 @@
+package hse.repository;
+
+import hse.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record LockedAccount(Money balance, int stripeCount) {
+        public boolean striped() {
+            return stripeCount > 0;
+        }
+    }
+
+    private record Stripe(int stripeNo, Money balance) {}
+
+    public DebitResult debit(UUID userId, Money amount) {
+        return jdbcTemplate.queryForObject("""
+                        WITH debited AS (
+                            UPDATE account a SET balance = a.balance - ?
+                            WHERE a.user_id = ? AND a.stripe_count = 0
+                              AND a.balance + %s >= ?
+                            RETURNING a.balance
+                        )
+                        SELECT (SELECT balance FROM debited) AS balance,
+                               (SELECT stripe_count FROM account WHERE user_id = ?) AS stripe_count
+                        """.formatted(LedgerJdbcRepository.UNFOLDED_DELTA),
+                (rs, rowNum) -> {
+                    int stripeCount = rs.getInt("stripe_count");
+                    boolean accountExists = !rs.wasNull();
+                    return new DebitResult(accountExists, stripeCount, rs.getBigDecimal("balance") != null);
+                },
+                amount.toBigDecimal(), userId, amount.toBigDecimal(), userId);
+    }
+
+    public boolean debitStriped(UUID userId, Money amount) {
+        List<BigDecimal> debited = jdbcTemplate.query("""
+                        WITH candidate AS (
+                            SELECT user_id, stripe_no FROM account_stripe
+                            WHERE user_id = ? AND balance >= ?
+                            ORDER BY random()
+                            LIMIT 1
+                            FOR UPDATE SKIP LOCKED
+                        )
+                        UPDATE account_stripe s SET balance = s.balance - ?
+                        FROM candidate c
+                        WHERE s.user_id = c.user_id AND s.stripe_no = c.stripe_no
+                        RETURNING s.balance
+                        """,
+                (rs, rowNum) -> rs.getBigDecimal(1),
+                userId, amount.toBigDecimal(), amount.toBigDecimal());
+        if (!debited.isEmpty()) {
+            return true;
+        }
+
+        return debitAcrossStripes(userId, amount);
+    }
+
+    private boolean debitAcrossStripes(UUID userId, Money amount) {
+        List<Stripe> stripes = new ArrayList<>(jdbcTemplate.query(
+                "SELECT stripe_no, balance FROM account_stripe WHERE user_id = ? ORDER BY stripe_no FOR UPDATE",
+                (rs, rowNum) -> new Stripe(rs.getInt("stripe_no"), Money.of(rs.getBigDecimal("balance"))),
+                userId));
+        Money total = stripes.stream().map(Stripe::balance).reduce(Money.ZERO, Money::plus);
+        if (total.isLessThan(amount)) {
+            return false;
+        }
+
+        stripes.sort(Comparator.comparing(Stripe::balance).reversed());
+        List<Stripe> withdrawals = new ArrayList<>();
+        long remaining = amount.minorUnits();
+        for (Stripe stripe : stripes) {
+            if (remaining == 0) {
+                break;
+            }
+            long withdrawal = Math.min(stripe.balance().minorUnits(), remaining);
+            if (withdrawal > 0) {
+                withdrawals.add(new Stripe(stripe.stripeNo(), Money.ofMinor(withdrawal)));
+                remaining -= withdrawal;
+            }
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE account_stripe SET balance = balance - ? WHERE user_id = ? AND stripe_no = ?",
+                withdrawals, withdrawals.size(), (ps, withdrawal) -> {
+                    ps.setBigDecimal(1, withdrawal.balance().toBigDecimal());
+                    ps.setObject(2, userId);
+                    ps.setInt(3, withdrawal.stripeNo());
+                });
+        return true;
+    }
+
+    public boolean credit(UUID userId, Money amount) {
+        int updated = jdbcTemplate.update(
+                "UPDATE account SET balance = balance + ? WHERE user_id = ? AND stripe_count = 0", amount.toBigDecimal(), userId);
+        if (updated > 0) {
+            return true;
+        }
+
+        return jdbcTemplate.update("""
+                WITH target AS (
+                    SELECT user_id, floor(random() * stripe_count)::int AS stripe_no
+                    FROM account
+                    WHERE user_id = ? AND stripe_count > 0
+                )
+                UPDATE account_stripe s SET balance = s.balance + ?
+                FROM target t
+                WHERE s.user_id = t.user_id AND s.stripe_no = t.stripe_no
+                """, userId, amount.toBigDecimal()) > 0;
+    }
+
+    public Optional<Money> findBalance(UUID userId) {
+        return jdbcTemplate.query("""
+                        SELECT a.balance
+                               + COALESCE((SELECT SUM(s.balance) FROM account_stripe s WHERE s.user_id = a.user_id), 0)
+                               + %s AS balance
+                        FROM account a
+                        WHERE a.user_id = ?
+                        """.formatted(LedgerJdbcRepository.UNFOLDED_DELTA),
+                (rs, rowNum) -> Money.of(rs.getBigDecimal("balance")),
+                userId).stream().findFirst();
+    }
+
+    public boolean restripe(UUID userId, int stripeCount) {
+        if (jdbcTemplate.queryForList("SELECT 1 FROM account WHERE user_id = ? FOR UPDATE", userId).isEmpty()) {
+            return false;
+        }
+
+        Money total = jdbcTemplate.query(
+                        "SELECT balance FROM account_stripe WHERE user_id = ? FOR UPDATE",
+                        (rs, rowNum) -> Money.of(rs.getBigDecimal("balance")),
+                        userId).stream()
+                .reduce(Money.ZERO, Money::plus);
+        total = total.plus(Money.of(jdbcTemplate.queryForObject(
+                "SELECT a.balance + %s FROM account a WHERE a.user_id = ?"
+                        .formatted(LedgerJdbcRepository.UNFOLDED_DELTA),
+                BigDecimal.class, userId)));
+        Long ledgerPosition = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM account_ledger WHERE user_id = ?", Long.class, userId);
+
+        if (stripeCount <= 1) {
+            jdbcTemplate.update("DELETE FROM account_stripe WHERE user_id = ?", userId);
+            jdbcTemplate.update("UPDATE account SET balance = ?, stripe_count = 0, ledger_position = ? WHERE user_id = ?",
+                    total.toBigDecimal(), ledgerPosition, userId);
+            return true;
+        }
+
+        jdbcTemplate.update("DELETE FROM account_stripe WHERE user_id = ? AND stripe_no >= ?", userId, stripeCount);
+
+        long totalCents = total.minorUnits();
+        List<Stripe> stripes = new ArrayList<>(stripeCount);
+        for (int stripeNo = 0; stripeNo < stripeCount; stripeNo++) {
+            long cents = totalCents / stripeCount + (stripeNo < totalCents % stripeCount ? 1 : 0);
+            stripes.add(new Stripe(stripeNo, Money.ofMinor(cents)));
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO account_stripe (user_id, stripe_no, balance) VALUES (?, ?, ?)
+                        ON CONFLICT (user_id, stripe_no) DO UPDATE SET balance = EXCLUDED.balance
+                        """,
+                stripes, stripes.size(), (ps, stripe) -> {
+                    ps.setObject(1, userId);
+                    ps.setInt(2, stripe.stripeNo());
+                    ps.setBigDecimal(3, stripe.balance().toBigDecimal());
+                });
+        jdbcTemplate.update("UPDATE account SET balance = 0, stripe_count = ?, ledger_position = ? WHERE user_id = ?",
+                stripeCount, ledgerPosition, userId);
+        return true;
+    }
+
+    public Map<UUID, LockedAccount> lockAccounts(Collection<UUID> userIds) {
+        Map<UUID, LockedAccount> accounts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return accounts;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userIds", userIds);
+        namedParameterJdbcTemplate.queryForList("""
+                        SELECT user_id FROM account
+                        WHERE user_id IN (:userIds)
+                        ORDER BY user_id
+                        FOR NO KEY UPDATE
+                        """,
+                parameters);
+        namedParameterJdbcTemplate.query("""
+                        SELECT a.user_id, a.balance + %s AS balance, a.stripe_count
+                        FROM account a
+                        WHERE a.user_id IN (:userIds)
+                        """.formatted(LedgerJdbcRepository.UNFOLDED_DELTA),
+                parameters,
+                rs -> {
+                    accounts.put(rs.getObject("user_id", UUID.class),
+                            new LockedAccount(Money.of(rs.getBigDecimal("balance")), rs.getInt("stripe_count")));
+                });
+        return accounts;
+    }
+
+    public void applyDebits(Map<UUID, Money> debits) {
+        if (debits.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE account SET balance = balance - ? WHERE user_id = ?",
+                new ArrayList<>(debits.entrySet()), debits.size(), (ps, debit) -> {
+                    ps.setBigDecimal(1, debit.getValue().toBigDecimal());
+                    ps.setObject(2, debit.getKey());
+                });
+    }
+}
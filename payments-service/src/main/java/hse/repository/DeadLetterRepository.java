@@ -0,0 +1,14 @@
+package hse.repository;
+
+import hse.model.DeadLetterEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DeadLetterRepository extends JpaRepository<DeadLetterEntity, UUID> {
+    List<DeadLetterEntity> findByReplayedAtIsNullOrderByFailedAtAsc(Pageable pageable);
+
+    List<DeadLetterEntity> findAllByOrderByFailedAtDesc(Pageable pageable);
+}
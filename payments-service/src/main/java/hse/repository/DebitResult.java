@@ -0,0 +1,11 @@
+package hse.repository;
+
+public record DebitResult(
+        boolean accountExists,
+        int stripeCount,
+        boolean applied
+) {
+    public boolean striped() {
+        return stripeCount > 0;
+    }
+}
@@ -0,0 +1,93 @@
+package hse.repository;
+
+import hse.model.InboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class InboxJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean insertIfAbsent(InboxEntity message) {
+        return jdbcTemplate.update("""
+                        INSERT INTO inbox_event
+                            (message_id, topic, payload, content_type, schema_version, received_at, processed)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        ON CONFLICT (message_id) DO NOTHING
+                        """,
+                message.getMessageId(),
+                message.getTopic(),
+                message.getPayload(),
+                message.getContentType(),
+                message.getSchemaVersion(),
+                Timestamp.valueOf(message.getReceivedAt()),
+                message.isProcessed()) > 0;
+    }
+
+    public Set<String> insertAllIfAbsent(List<InboxEntity> messages) {
+        Set<String> inserted = new HashSet<>();
+        if (messages.isEmpty()) {
+            return inserted;
+        }
+
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement("""
+                            INSERT INTO inbox_event
+                                (message_id, topic, payload, content_type, schema_version, received_at, processed)
+                            SELECT m.message_id, m.topic, m.payload, m.content_type, m.schema_version,
+                                   m.received_at, m.processed
+                            FROM unnest(?::text[], ?::text[], ?::bytea[], ?::text[], ?::int[],
+                                        ?::timestamp[], ?::boolean[])
+                                AS m(message_id, topic, payload, content_type, schema_version, received_at, processed)
+                            ON CONFLICT (message_id) DO NOTHING
+                            RETURNING message_id
+                            """);
+                    ps.setArray(1, connection.createArrayOf("text",
+                            messages.stream().map(InboxEntity::getMessageId).toArray()));
+                    ps.setArray(2, connection.createArrayOf("text",
+                            messages.stream().map(InboxEntity::getTopic).toArray()));
+                    ps.setArray(3, connection.createArrayOf("bytea",
+                            messages.stream().map(InboxEntity::getPayload).toArray(byte[][]::new)));
+                    ps.setArray(4, connection.createArrayOf("text",
+                            messages.stream().map(InboxEntity::getContentType).toArray()));
+                    ps.setArray(5, connection.createArrayOf("int4",
+                            messages.stream().map(InboxEntity::getSchemaVersion).toArray()));
+                    ps.setArray(6, connection.createArrayOf("timestamp",
+                            messages.stream().map(message -> Timestamp.valueOf(message.getReceivedAt())).toArray()));
+                    ps.setArray(7, connection.createArrayOf("boolean",
+                            messages.stream().map(InboxEntity::isProcessed).toArray()));
+                    return ps;
+                },
+                rs -> {
+                    inserted.add(rs.getString("message_id"));
+                });
+        return inserted;
+    }
+
+    public int deleteReceivedBefore(LocalDateTime receivedBefore, int limit) {
+        return jdbcTemplate.update("""
+                        DELETE FROM inbox_event
+                        WHERE id IN (
+                            SELECT id FROM inbox_event
+                            WHERE received_at < ?
+                            ORDER BY received_at
+                            LIMIT ?
+                        )
+                        """,
+                Timestamp.valueOf(receivedBefore), limit);
+    }
+
+    public List<String> findRecentMessageIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT message_id FROM inbox_event ORDER BY received_at DESC LIMIT ?", String.class, limit);
+    }
+}
@@ -0,0 +1,110 @@
+package hse.repository;
+
+import hse.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerJdbcRepository {
+    static final String UNFOLDED_DELTA = """
+            COALESCE((SELECT SUM(l.amount) FROM account_ledger l
+                      WHERE l.user_id = a.user_id AND l.id > a.ledger_position), 0)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LedgerEntry(UUID userId, Money amount, String entryType, UUID referenceId) {}
+
+    public boolean credit(UUID userId, Money amount) {
+        return jdbcTemplate.update("""
+                INSERT INTO account_ledger (user_id, amount, entry_type)
+                SELECT user_id, ?, 'CREDIT' FROM account
+                WHERE user_id = ? AND stripe_count = 0
+                FOR KEY SHARE
+                """, amount.toBigDecimal(), userId) > 0;
+    }
+
+    public DebitResult debit(UUID userId, Money amount, UUID referenceId) {
+        List<Integer> stripeCount = jdbcTemplate.query(
+                "SELECT stripe_count FROM account WHERE user_id = ? FOR NO KEY UPDATE",
+                (rs, rowNum) -> rs.getInt("stripe_count"),
+                userId);
+        if (stripeCount.isEmpty()) {
+            return new DebitResult(false, 0, false);
+        }
+        if (stripeCount.get(0) > 0) {
+            return new DebitResult(true, stripeCount.get(0), false);
+        }
+
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO account_ledger (user_id, amount, entry_type, reference_id)
+                SELECT a.user_id, ?, 'DEBIT', ? FROM account a
+                WHERE a.user_id = ? AND a.balance + %s >= ?
+                """.formatted(UNFOLDED_DELTA),
+                amount.negate().toBigDecimal(), referenceId, userId, amount.toBigDecimal());
+        return new DebitResult(true, 0, inserted > 0);
+    }
+
+    public void insertAll(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO account_ledger (user_id, amount, entry_type, reference_id)
+                        VALUES (?, ?, ?, ?)
+                        """,
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setObject(1, entry.userId());
+                    ps.setBigDecimal(2, entry.amount().toBigDecimal());
+                    ps.setString(3, entry.entryType());
+                    ps.setObject(4, entry.referenceId());
+                });
+    }
+
+    public List<UUID> findAccountsToSnapshot(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT DISTINCT l.user_id
+                        FROM account_ledger l
+                        JOIN account a ON a.user_id = l.user_id
+                        WHERE l.id > a.ledger_position
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> rs.getObject("user_id", UUID.class),
+                limit);
+    }
+
+    public int deleteFoldedBefore(LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM account_ledger
+                WHERE id IN (
+                    SELECT l.id FROM account_ledger l
+                    JOIN account a ON a.user_id = l.user_id
+                    WHERE l.created_at < ? AND l.id <= a.ledger_position
+                    LIMIT ?
+                )
+                """, createdBefore, limit);
+    }
+
+    public int snapshot(UUID userId) {
+        if (jdbcTemplate.queryForList("SELECT 1 FROM account WHERE user_id = ? FOR UPDATE", userId).isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update("""
+                UPDATE account a SET balance = a.balance + d.delta, ledger_position = d.max_id
+                FROM (
+                    SELECT SUM(l.amount) AS delta, MAX(l.id) AS max_id
+                    FROM account_ledger l
+                    JOIN account acc ON acc.user_id = l.user_id
+                    WHERE l.user_id = ? AND l.id > acc.ledger_position
+                ) d
+                WHERE a.user_id = ? AND d.max_id IS NOT NULL
+                """, userId, userId);
+    }
+}
@@ -0,0 +1,73 @@
+package hse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionJdbcRepository {
+    private static final String PARTITION_PREFIX = "outbox_event_p";
+    private static final DateTimeFormatter PARTITION_DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Partition(String name, LocalDate day) {}
+
+    public boolean tryLockMaintenance() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('outbox_event_maintenance'))", Boolean.class));
+    }
+
+    public int createPartition(LocalDate day) {
+        Integer moved = jdbcTemplate.queryForObject("SELECT create_outbox_event_partition(?)", Integer.class,
+                Date.valueOf(day));
+        return moved == null ? 0 : moved;
+    }
+
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = 'outbox_event' AND c.relname ~ '^outbox_event_p[0-9]{8}$'
+                        ORDER BY c.relname
+                        """,
+                (rs, rowNum) -> {
+                    String name = rs.getString("relname");
+                    return new Partition(name,
+                            LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_DAY_FORMAT));
+                });
+    }
+
+    public boolean hasUnprocessedEvents(Partition partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM %s WHERE processed = false)".formatted(partition.name()),
+                Boolean.class));
+    }
+
+    public void detach(Partition partition) {
+        jdbcTemplate.execute("ALTER TABLE outbox_event DETACH PARTITION " + partition.name());
+    }
+
+    public void drop(Partition partition) {
+        jdbcTemplate.execute("DROP TABLE " + partition.name());
+    }
+
+    public void archive(Partition partition) {
+        jdbcTemplate.execute("ALTER TABLE " + partition.name() + " SET SCHEMA outbox_archive");
+    }
+
+    public int deleteProcessedFromDefault(LocalDateTime occurredBefore) {
+        return jdbcTemplate.update("DELETE FROM outbox_event_default WHERE processed = true AND occurred_on < ?",
+                Timestamp.valueOf(occurredBefore));
+    }
+}
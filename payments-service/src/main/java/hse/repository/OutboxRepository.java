@@ -2,10 +2,48 @@ package hse.repository;
 
 import hse.model.OutboxEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
 public interface OutboxRepository extends JpaRepository<OutboxEntity, UUID> {
-    List<OutboxEntity> findByProcessedFalseOrderByOccurredOnAsc();
-}
\ No newline at end of file
+    @Query(value = """
+            SELECT * FROM outbox_event
+            WHERE processed = false
+              AND occurred_on <= :occurredBefore
+            ORDER BY occurred_on
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEntity> lockNextUnprocessedBatch(@Param("occurredBefore") LocalDateTime occurredBefore,
+                                                @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEntity o SET o.processed = true
+            WHERE o.id IN :ids
+              AND o.occurredOn BETWEEN :occurredFrom AND :occurredTo
+            """)
+    int markProcessed(@Param("ids") Collection<UUID> ids,
+                      @Param("occurredFrom") LocalDateTime occurredFrom,
+                      @Param("occurredTo") LocalDateTime occurredTo);
+
+    default int markProcessed(List<OutboxEntity> events) {
+        LocalDateTime occurredFrom = events.stream()
+                .map(OutboxEntity::getOccurredOn)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDateTime occurredTo = events.stream()
+                .map(OutboxEntity::getOccurredOn)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        return markProcessed(events.stream().map(OutboxEntity::getId).toList(),
+                occurredFrom.minusSeconds(1), occurredTo.plusSeconds(1));
+    }
+}
@@ -0,0 +1,60 @@
+package hse.scheduler;
+
+import hse.repository.InboxJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(name = "inbox.retention.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InboxRetentionScheduler {
+    private final InboxJdbcRepository inboxJdbcRepository;
+
+    @Value("${inbox.retention.retention-hours:336}")
+    private long retentionHours;
+
+    @Value("${inbox.retention.replay-horizon-hours:168}")
+    private long replayHorizonHours;
+
+    @Value("${inbox.retention.batch-size:5000}")
+    private int batchSize;
+
+    @PostConstruct
+    public void validateRetention() {
+        if (retentionHours < replayHorizonHours) {
+            log.warn("Inbox retention of {} h is shorter than the Kafka replay horizon of {} h. " +
+                    "Using the replay horizon so replayed messages are still deduplicated.",
+                    retentionHours, replayHorizonHours);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inbox.retention.interval-ms:3600000}")
+    public void purgeExpiredMessages() {
+        Duration retention = Duration.ofHours(Math.max(retentionHours, replayHorizonHours));
+        LocalDateTime receivedBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+
+        try {
+            int deleted;
+            do {
+                deleted = inboxJdbcRepository.deleteReceivedBefore(receivedBefore, batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+        } catch (Exception e) {
+            log.error("Error while purging expired inbox messages", e);
+        }
+
+        if (total > 0) {
+            log.info("Purged {} inbox messages received before {}", total, receivedBefore);
+        }
+    }
+}
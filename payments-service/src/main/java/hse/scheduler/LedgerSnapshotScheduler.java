@@ -0,0 +1,71 @@
+package hse.scheduler;
+
+import hse.repository.LedgerJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "payments.ledger.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerSnapshotScheduler {
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${payments.ledger.snapshot.batch-size:500}")
+    private int batchSize;
+
+    @Value("${payments.ledger.retention.retention-hours:168}")
+    private long retentionHours;
+
+    @Value("${payments.ledger.retention.batch-size:5000}")
+    private int pruneBatchSize;
+
+    @Scheduled(fixedDelayString = "${payments.ledger.snapshot.interval-ms:10000}")
+    public void snapshotBalances() {
+        List<UUID> userIds = ledgerJdbcRepository.findAccountsToSnapshot(batchSize);
+        int snapshotted = 0;
+
+        for (UUID userId : userIds) {
+            try {
+                Integer updated = transactionTemplate.execute(status -> ledgerJdbcRepository.snapshot(userId));
+                snapshotted += updated == null ? 0 : updated;
+            } catch (Exception e) {
+                log.error("Failed to snapshot ledger balance for user {}", userId, e);
+            }
+        }
+
+        if (snapshotted > 0) {
+            log.info("Folded ledger entries into balance snapshots of {} accounts", snapshotted);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payments.ledger.retention.interval-ms:3600000}")
+    public void pruneFoldedEntries() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusHours(retentionHours);
+        int total = 0;
+
+        try {
+            int deleted;
+            do {
+                deleted = ledgerJdbcRepository.deleteFoldedBefore(createdBefore, pruneBatchSize);
+                total += deleted;
+            } while (deleted == pruneBatchSize);
+        } catch (Exception e) {
+            log.error("Error while pruning folded ledger entries", e);
+        }
+
+        if (total > 0) {
+            log.info("Pruned {} folded ledger entries created before {}", total, createdBefore);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package hse.scheduler;
+
+import hse.repository.OutboxPartitionJdbcRepository;
+import hse.repository.OutboxPartitionJdbcRepository.Partition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+@Component
+@ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRetentionScheduler {
+    private final OutboxPartitionJdbcRepository outboxPartitionJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.retention.retention-days:3}")
+    private int retentionDays;
+
+    @Value("${outbox.retention.premake-days:7}")
+    private int premakeDays;
+
+    @Value("${outbox.retention.archive:false}")
+    private boolean archive;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${outbox.retention.interval-ms:3600000}")
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!outboxPartitionJdbcRepository.tryLockMaintenance()) {
+                    return;
+                }
+                createUpcomingPartitions();
+                removeExpiredPartitions();
+            });
+        } catch (Exception e) {
+            log.error("Error while maintaining outbox_event partitions", e);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        LocalDate today = LocalDate.now();
+        for (int offset = 0; offset <= premakeDays; offset++) {
+            LocalDate day = today.plusDays(offset);
+            int moved = outboxPartitionJdbcRepository.createPartition(day);
+            if (moved > 0) {
+                log.warn("Moved {} outbox events for {} out of the default partition. " +
+                        "Partitions were not created ahead of time.", moved, day);
+            }
+        }
+    }
+
+    private void removeExpiredPartitions() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        for (Partition partition : outboxPartitionJdbcRepository.findPartitions()) {
+            if (!partition.day().plusDays(1).isAfter(cutoff)) {
+                removePartition(partition);
+            }
+        }
+
+        int deleted = outboxPartitionJdbcRepository.deleteProcessedFromDefault(cutoff.atStartOfDay());
+        if (deleted > 0) {
+            log.info("Deleted {} processed outbox events from the default partition", deleted);
+        }
+    }
+
+    private void removePartition(Partition partition) {
+        if (outboxPartitionJdbcRepository.hasUnprocessedEvents(partition)) {
+            log.warn("Outbox partition {} is past retention but still has unprocessed events. Keeping it.",
+                    partition.name());
+            return;
+        }
+
+        outboxPartitionJdbcRepository.detach(partition);
+        if (archive) {
+            outboxPartitionJdbcRepository.archive(partition);
+            log.info("Archived outbox partition {} to schema outbox_archive", partition.name());
+        } else {
+            outboxPartitionJdbcRepository.drop(partition);
+            log.info("Dropped outbox partition {}", partition.name());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package hse.scheduler;
+
+import java.util.List;
+
+public interface PostgresNotificationHandler {
+    String channel();
+
+    void onNotifications(List<String> payloads);
+
+    default void onListening() {
+    }
+}
@@ -0,0 +1,126 @@
+package hse.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresNotificationListener {
+    private final DataSourceProperties dataSourceProperties;
+    private final List<PostgresNotificationHandler> handlers;
+
+    @Value("${postgres.notify.poll-timeout-ms:10000}")
+    private int pollTimeoutMs;
+
+    @Value("${postgres.notify.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        running = true;
+        Thread.Builder threadBuilder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        listenerThread = threadBuilder.name("postgres-notification-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (PostgresNotificationHandler handler : handlers) {
+                        statement.execute("LISTEN " + handler.channel());
+                        log.info("Listening for notifications on channel '{}'", handler.channel());
+                    }
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                handlers.forEach(handler -> dispatch(handler, handler::onListening));
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                    } else if (!connection.isValid(5)) {
+                        throw new SQLException("Notification connection is no longer valid");
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Notification connection lost: {}. Reconnecting in {} ms.",
+                            e.getMessage(), reconnectDelayMs);
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        Map<String, List<String>> payloadsByChannel = new HashMap<>();
+        for (PGNotification notification : notifications) {
+            payloadsByChannel.computeIfAbsent(notification.getName(), channel -> new ArrayList<>())
+                    .add(notification.getParameter());
+        }
+
+        for (PostgresNotificationHandler handler : handlers) {
+            List<String> payloads = payloadsByChannel.get(handler.channel());
+            if (payloads != null) {
+                dispatch(handler, () -> handler.onNotifications(payloads));
+            }
+        }
+    }
+
+    private void dispatch(PostgresNotificationHandler handler, Runnable callback) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            log.error("Error while handling notifications on channel '{}'", handler.channel(), e);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
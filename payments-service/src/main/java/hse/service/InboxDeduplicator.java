@@ -0,0 +1,108 @@
+package hse.service;
+
+import hse.repository.InboxJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Component
+@Slf4j
+public class InboxDeduplicator {
+    private final InboxJdbcRepository inboxJdbcRepository;
+    private final int capacity;
+    private final int warmUpSize;
+    private final Set<String> recentIds = ConcurrentHashMap.newKeySet();
+    private final AtomicReferenceArray<String> ring;
+    private final AtomicLong cursor = new AtomicLong();
+    private final Counter memoryHits;
+    private final Counter memoryMisses;
+    private final Counter databaseHits;
+
+    public InboxDeduplicator(InboxJdbcRepository inboxJdbcRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${inbox.dedup.cache-size:100000}") int capacity,
+                             @Value("${inbox.dedup.warm-up-size:10000}") int warmUpSize) {
+        this.inboxJdbcRepository = inboxJdbcRepository;
+        this.capacity = capacity;
+        this.warmUpSize = Math.min(warmUpSize, capacity);
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.memoryHits = Counter.builder("inbox.dedup.lookups").tag("result", "memory_hit")
+                .description("Inbox messages rejected by the in-memory recent-ID cache")
+                .register(meterRegistry);
+        this.memoryMisses = Counter.builder("inbox.dedup.lookups").tag("result", "memory_miss")
+                .description("Inbox messages that had to be checked against the database")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("inbox.dedup.lookups").tag("result", "database_hit")
+                .description("Inbox messages that missed the cache but were already stored")
+                .register(meterRegistry);
+        Gauge.builder("inbox.dedup.cache.size", recentIds, Set::size)
+                .description("Message IDs currently held by the recent-ID cache")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) {
+            return;
+        }
+
+        List<String> messageIds = inboxJdbcRepository.findRecentMessageIds(warmUpSize);
+        messageIds.forEach(this::remember);
+        log.info("Warmed up the inbox dedup cache with {} recent message IDs", messageIds.size());
+    }
+
+    public boolean isKnownDuplicate(String messageId) {
+        if (recentIds.contains(messageId)) {
+            memoryHits.increment();
+            return true;
+        }
+
+        memoryMisses.increment();
+        return false;
+    }
+
+    public void recordDatabaseDuplicate(String messageId) {
+        databaseHits.increment();
+        remember(messageId);
+    }
+
+    public void rememberAfterCommit(Collection<String> messageIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messageIds.forEach(this::remember);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                messageIds.forEach(InboxDeduplicator.this::remember);
+            }
+        });
+    }
+
+    private void remember(String messageId) {
+        if (!recentIds.add(messageId)) {
+            return;
+        }
+
+        int slot = (int) (cursor.getAndIncrement() % capacity);
+        String evicted = ring.getAndSet(slot, messageId);
+        if (evicted != null) {
+            recentIds.remove(evicted);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package hse.service;
+
+import hse.codec.EventCodecs;
+import hse.metrics.OutboxMetrics;
+import hse.model.OutboxEntity;
+import hse.tracing.EventTracing;
+import io.micrometer.tracing.Span;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private static final String TOPIC = "payment.processed";
+    private static final String MESSAGE_ID_HEADER = "id";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxMetrics outboxMetrics;
+    private final EventTracing eventTracing;
+
+    public CompletableFuture<SendResult<String, byte[]>> publish(OutboxEntity event) {
+        String key = event.getMessageKey() != null ? event.getMessageKey() : event.getAggregateId().toString();
+        ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(TOPIC, key, event.getPayload());
+        producerRecord.headers().add(MESSAGE_ID_HEADER, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        EventCodecs.addHeaders(producerRecord.headers(), event.getContentType(), event.getSchemaVersion());
+
+        Span span = eventTracing.startProducerSpan(event.getTraceContext(), TOPIC, event.getOccurredOn(),
+                producerRecord.headers());
+
+        long sendStartNanos = System.nanoTime();
+        try {
+            return kafkaTemplate.send(producerRecord).whenComplete((result, ex) -> {
+                outboxMetrics.recordPublish(event, sendStartNanos, ex);
+                eventTracing.end(span, ex);
+            });
+        } catch (RuntimeException e) {
+            eventTracing.end(span, e);
+            throw e;
+        }
+    }
+}
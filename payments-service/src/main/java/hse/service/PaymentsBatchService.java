@@ -0,0 +1,198 @@
+package hse.service;
+
+import hse.codec.EncodedEvent;
+import hse.codec.EventCodecs;
+import hse.event.OrderCreatedEvent;
+import hse.event.OutboxSavedEvent;
+import hse.event.PaymentProcessedEvent;
+import hse.jfr.AccountDebitEvent;
+import hse.jfr.InboxDedupEvent;
+import hse.metrics.PaymentMetrics;
+import hse.model.InboxEntity;
+import hse.model.Money;
+import hse.model.OutboxEntity;
+import hse.model.UuidV7;
+import hse.repository.AccountJdbcRepository;
+import hse.repository.AccountJdbcRepository.LockedAccount;
+import hse.repository.InboxJdbcRepository;
+import hse.repository.LedgerJdbcRepository;
+import hse.repository.LedgerJdbcRepository.LedgerEntry;
+import hse.repository.OutboxJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentsBatchService {
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final InboxJdbcRepository inboxJdbcRepository;
+    private final InboxDeduplicator inboxDeduplicator;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final EventCodecs eventCodecs;
+    private final PaymentMetrics paymentMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${payments.ledger.enabled:false}")
+    private boolean ledgerEnabled;
+
+    public record IncomingOrder(String messageId, String topic, byte[] payload, String contentType, int schemaVersion,
+                                String traceContext, OrderCreatedEvent event) {}
+
+    @Transactional
+    public void processOrderPayments(List<IncomingOrder> orders) {
+        LocalDateTime now = LocalDateTime.now();
+        InboxDedupEvent dedupEvent = new InboxDedupEvent();
+        dedupEvent.begin();
+        Map<String, IncomingOrder> candidates = new LinkedHashMap<>();
+        for (IncomingOrder order : orders) {
+            if (inboxDeduplicator.isKnownDuplicate(order.messageId())
+                    || candidates.putIfAbsent(order.messageId(), order) != null) {
+                log.warn("Message with ID {} already processed. Skipping.", order.messageId());
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            commitDedupEvent(dedupEvent, orders.size(), orders.size(), 0);
+            return;
+        }
+
+        List<InboxEntity> inboxMessages = candidates.values().stream()
+                .map(order -> InboxEntity.builder()
+                        .messageId(order.messageId())
+                        .topic(order.topic())
+                        .payload(order.payload())
+                        .contentType(order.contentType())
+                        .schemaVersion(order.schemaVersion())
+                        .receivedAt(now)
+                        .processed(true)
+                        .build())
+                .toList();
+        Set<String> insertedMessageIds = inboxJdbcRepository.insertAllIfAbsent(inboxMessages);
+        List<IncomingOrder> newOrders = new ArrayList<>(insertedMessageIds.size());
+        for (IncomingOrder order : candidates.values()) {
+            if (insertedMessageIds.contains(order.messageId())) {
+                newOrders.add(order);
+            } else {
+                inboxDeduplicator.recordDatabaseDuplicate(order.messageId());
+                log.warn("Message with ID {} already processed. Skipping.", order.messageId());
+            }
+        }
+        commitDedupEvent(dedupEvent, orders.size(), orders.size() - candidates.size(),
+                candidates.size() - newOrders.size());
+
+        if (newOrders.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> userIds = new LinkedHashSet<>();
+        newOrders.forEach(order -> userIds.add(order.event().userId()));
+        Map<UUID, LockedAccount> accounts = accountJdbcRepository.lockAccounts(userIds);
+        Map<UUID, Money> balances = new HashMap<>();
+        accounts.forEach((userId, account) -> balances.put(userId, account.balance()));
+
+        Map<UUID, Money> debits = new HashMap<>();
+        List<LedgerEntry> ledgerEntries = new ArrayList<>();
+        List<OutboxEntity> outboxEvents = new ArrayList<>(newOrders.size());
+
+        for (IncomingOrder order : newOrders) {
+            OrderCreatedEvent event = order.event();
+            LockedAccount account = accounts.get(event.userId());
+            Money balance = balances.get(event.userId());
+            String failureReason = null;
+            AccountDebitEvent debitEvent = new AccountDebitEvent();
+            debitEvent.begin();
+
+            if (account == null) {
+                failureReason = "ACCOUNT_NOT_FOUND";
+            } else if (account.striped()) {
+                if (!accountJdbcRepository.debitStriped(event.userId(), event.amount())) {
+                    failureReason = "INSUFFICIENT_FUNDS";
+                }
+            } else if (balance.isLessThan(event.amount())) {
+                failureReason = "INSUFFICIENT_FUNDS";
+            } else {
+                balances.put(event.userId(), balance.minus(event.amount()));
+                if (ledgerEnabled) {
+                    ledgerEntries.add(new LedgerEntry(event.userId(), event.amount().negate(), "DEBIT", event.id()));
+                } else {
+                    debits.merge(event.userId(), event.amount(), Money::plus);
+                }
+            }
+
+            if (failureReason == null) {
+                log.info("Payment successful for orderId: {}", event.id());
+            } else {
+                log.warn("Payment failed for orderId: {}. Reason: {}", event.id(), failureReason);
+            }
+            if (debitEvent.shouldCommit()) {
+                debitEvent.userId = event.userId().toString();
+                debitEvent.amount = event.amount().minorUnits();
+                debitEvent.outcome = failureReason == null ? "SUCCESS" : failureReason;
+                debitEvent.striped = account != null && account.striped();
+                debitEvent.commit();
+            }
+            paymentMetrics.recordDebit(failureReason);
+
+            outboxEvents.add(buildPaymentOutboxEvent(order, failureReason, now));
+        }
+
+        accountJdbcRepository.applyDebits(debits);
+        ledgerJdbcRepository.insertAll(ledgerEntries);
+        outboxJdbcRepository.insertAll(outboxEvents);
+        outboxEvents.forEach(outbox -> eventPublisher.publishEvent(new OutboxSavedEvent(outbox)));
+        inboxDeduplicator.rememberAfterCommit(insertedMessageIds);
+
+        log.info("Processed batch of {} OrderCreated events for {} accounts", newOrders.size(), userIds.size());
+    }
+
+    private static void commitDedupEvent(InboxDedupEvent event, int messages, int cacheHits, int databaseDuplicates) {
+        if (event.shouldCommit()) {
+            event.messages = messages;
+            event.cacheHits = cacheHits;
+            event.databaseDuplicates = databaseDuplicates;
+            event.commit();
+        }
+    }
+
+    private OutboxEntity buildPaymentOutboxEvent(IncomingOrder order, String failureReason, LocalDateTime now) {
+        OrderCreatedEvent event = order.event();
+        boolean success = failureReason == null;
+        EncodedEvent encoded = eventCodecs.encode(new PaymentProcessedEvent(
+                event.id(),
+                event.userId(),
+                event.amount(),
+                UUID.randomUUID(),
+                success ? "SUCCESS" : "FAILURE",
+                failureReason
+        ));
+        return OutboxEntity.builder()
+                .id(UuidV7.generate())
+                .aggregateType("Payment")
+                .aggregateId(event.id())
+                .eventType(success ? "PAYMENT_SUCCESS" : "PAYMENT_FAILED")
+                .messageKey(event.id().toString())
+                .payload(encoded.payload())
+                .contentType(encoded.contentType())
+                .schemaVersion(encoded.schemaVersion())
+                .traceContext(order.traceContext())
+                .occurredOn(now)
+                .processed(false)
+                .build();
+    }
+}
@@ -1,22 +1,30 @@
 package hse.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import hse.codec.EncodedEvent;
+import hse.codec.EventCodecs;
 import hse.event.OrderCreatedEvent;
+import hse.event.OutboxSavedEvent;
 import hse.event.PaymentProcessedEvent;
 import hse.exception.AccountNotFoundException;
 import hse.exception.PaymentsException;
+import hse.jfr.AccountDebitEvent;
+import hse.metrics.PaymentMetrics;
 import hse.model.AccountEntity;
+import hse.model.Money;
 import hse.model.OutboxEntity;
+import hse.repository.AccountJdbcRepository;
 import hse.repository.AccountRepository;
+import hse.repository.DebitResult;
+import hse.repository.LedgerJdbcRepository;
 import hse.repository.OutboxRepository;
+import hse.tracing.EventTracing;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -24,8 +32,19 @@ import java.util.UUID;
 @Slf4j
 public class PaymentsService {
     private final AccountRepository accountRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final EventCodecs eventCodecs;
+    private final PaymentMetrics paymentMetrics;
+    private final EventTracing eventTracing;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${payments.stripes.max:64}")
+    private int maxStripes;
+
+    @Value("${payments.ledger.enabled:false}")
+    private boolean ledgerEnabled;
 
     @Transactional
     public void createAccount(UUID userId) {
@@ -35,100 +54,113 @@ public class PaymentsService {
 
         AccountEntity account = AccountEntity.builder()
                 .userId(userId)
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .build();
 
         accountRepository.save(account);
     }
 
     @Transactional
-    public void topUpBalance(UUID userId, BigDecimal amount) {
-        AccountEntity account = accountRepository.findByUserId(userId).orElseThrow(() -> new AccountNotFoundException(
-                "The account was not found for user: " + userId
-        ));
-
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public void topUpBalance(UUID userId, Money amount) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("The amount has to be positive");
         }
 
-        account.setBalance(account.getBalance().add(amount));
-
-        accountRepository.save(account);
+        boolean credited = ledgerEnabled && ledgerJdbcRepository.credit(userId, amount)
+                || accountJdbcRepository.credit(userId, amount);
+        if (!credited) {
+            throw new AccountNotFoundException("The account was not found for user: " + userId);
+        }
     }
 
     @Transactional(readOnly = true)
-    public BigDecimal getBalance(UUID userId) {
-        return accountRepository.findByUserId(userId)
-                .map(AccountEntity::getBalance)
+    public Money getBalance(UUID userId) {
+        return accountJdbcRepository.findBalance(userId)
                 .orElseThrow(() -> new AccountNotFoundException(
                         "The account was not found for user: " + userId
                 ));
     }
 
     @Transactional
-    public void processOrderPayment(OrderCreatedEvent event) throws JsonProcessingException {
+    public void stripeAccount(UUID userId, int stripeCount) {
+        if (stripeCount < 0 || stripeCount > maxStripes) {
+            throw new IllegalArgumentException("The stripe count has to be between 0 and " + maxStripes);
+        }
+
+        if (!accountJdbcRepository.restripe(userId, stripeCount)) {
+            throw new AccountNotFoundException("The account was not found for user: " + userId);
+        }
+        log.info("Account of user {} now uses {} balance stripes", userId, stripeCount <= 1 ? 0 : stripeCount);
+    }
+
+    @Transactional
+    public void processOrderPayment(OrderCreatedEvent event) {
         UUID orderId = event.id();
         UUID userId = event.userId();
-        BigDecimal amount = event.amount();
+        Money amount = event.amount();
 
         log.info("Processing OrderCreatedEvent for orderId: {}, userId: {}, amount: {}", orderId, userId, amount);
 
         boolean success = false;
         String failureReason = null;
 
-        try {
-            Optional<AccountEntity> account = accountRepository.findByUserId(userId);
-            if (account.isEmpty()) {
-                failureReason = "ACCOUNT_NOT_FOUND";
-            } else if (account.get().getBalance().compareTo(amount) < 0) {
-                failureReason = "INSUFFICIENT_FUNDS";
-            } else {
-                account.get().setBalance(account.get().getBalance().subtract(amount));
-                accountRepository.save(account.get());
-                success = true;
-            }
-        } catch (Exception e) {
-            log.error("Error during payment processing for orderId {}: {}", orderId, e.getMessage(), e);
-            failureReason = "INTERNAL_ERROR";
+        AccountDebitEvent debitEvent = new AccountDebitEvent();
+        debitEvent.begin();
+        DebitResult debit = ledgerEnabled
+                ? ledgerJdbcRepository.debit(userId, amount, orderId)
+                : accountJdbcRepository.debit(userId, amount);
+        if (!debit.accountExists()) {
+            failureReason = "ACCOUNT_NOT_FOUND";
+        } else if (debit.applied() || debit.striped() && accountJdbcRepository.debitStriped(userId, amount)) {
+            success = true;
+        } else {
+            failureReason = "INSUFFICIENT_FUNDS";
         }
-
-        try {
-            if (success) {
-                log.info("Payment successful for orderId: {}", orderId);
-                String payload = objectMapper.writeValueAsString(new PaymentProcessedEvent(
-                        orderId,
-                        userId,
-                        amount,
-                        UUID.randomUUID(),
-                        "SUCCESS",
-                        null
-                ));
-                saveOutboxEvent(orderId, "PAYMENT_SUCCESS", payload);
-            } else {
-                log.warn("Payment failed for orderId: {}. Reason: {}", orderId, failureReason);
-                String payload = objectMapper.writeValueAsString(new PaymentProcessedEvent(
-                        orderId,
-                        userId,
-                        amount,
-                        UUID.randomUUID(),
-                        "FAILURE",
-                        failureReason
-                ));
-                saveOutboxEvent(orderId, "PAYMENT_FAILED", payload);
-            }
-        } catch (JsonProcessingException e) {
-            throw new PaymentsException("Event serialization error", e);
+        if (debitEvent.shouldCommit()) {
+            debitEvent.userId = userId.toString();
+            debitEvent.amount = amount.minorUnits();
+            debitEvent.outcome = success ? "SUCCESS" : failureReason;
+            debitEvent.striped = debit.striped();
+            debitEvent.commit();
+        }
+        paymentMetrics.recordDebit(failureReason);
+
+        if (success) {
+            log.info("Payment successful for orderId: {}", orderId);
+            saveOutboxEvent(orderId, "PAYMENT_SUCCESS", eventCodecs.encode(new PaymentProcessedEvent(
+                    orderId,
+                    userId,
+                    amount,
+                    UUID.randomUUID(),
+                    "SUCCESS",
+                    null
+            )));
+        } else {
+            log.warn("Payment failed for orderId: {}. Reason: {}", orderId, failureReason);
+            saveOutboxEvent(orderId, "PAYMENT_FAILED", eventCodecs.encode(new PaymentProcessedEvent(
+                    orderId,
+                    userId,
+                    amount,
+                    UUID.randomUUID(),
+                    "FAILURE",
+                    failureReason
+            )));
         }
     }
 
-    private void saveOutboxEvent(UUID aggregateId, String eventType, String payload) {
+    private void saveOutboxEvent(UUID aggregateId, String eventType, EncodedEvent encoded) {
         OutboxEntity outbox = OutboxEntity.builder()
                 .aggregateType("Payment")
                 .aggregateId(aggregateId)
                 .eventType(eventType)
-                .payload(payload)
+                .messageKey(aggregateId.toString())
+                .payload(encoded.payload())
+                .contentType(encoded.contentType())
+                .schemaVersion(encoded.schemaVersion())
+                .traceContext(eventTracing.currentContext())
                 .processed(false)
                 .build();
         outboxRepository.save(outbox);
+        eventPublisher.publishEvent(new OutboxSavedEvent(outbox));
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package hse.service;
+
+import hse.exception.PaymentsException;
+import hse.exception.ProfilingStateException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+@Slf4j
+public class ProfilingService {
+    private static final String RECORDING_NAME = "payments-service-profiling";
+
+    @Value("${profiling.settings:profile}")
+    private String settings;
+
+    @Value("${profiling.max-duration:10m}")
+    private Duration maxDuration;
+
+    @Value("${profiling.max-size-mb:256}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    public record ProfilingStatus(String state, Instant startTime, Instant stopTime, long durationSeconds,
+                                  long maxSizeBytes) {}
+
+    public synchronized ProfilingStatus start(Duration duration) {
+        Duration effectiveDuration = duration == null ? maxDuration : duration;
+        if (effectiveDuration.isNegative() || effectiveDuration.isZero()
+                || effectiveDuration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("The duration has to be between 1 and " + maxDuration.toSeconds() + "s");
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ProfilingStateException("A profiling recording is already running");
+        }
+
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new PaymentsException("Failed to load the JFR settings: " + settings, e);
+        }
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(effectiveDuration);
+        newRecording.setMaxSize(maxSizeMb * 1024 * 1024);
+
+        closeRecording();
+        newRecording.start();
+        recording = newRecording;
+        log.info("Started a JFR recording with '{}' settings for {}s", settings, effectiveDuration.toSeconds());
+
+        return status();
+    }
+
+    public synchronized ProfilingStatus stop() {
+        if (recording == null) {
+            throw new ProfilingStateException("No profiling recording has been started");
+        }
+
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped the JFR recording");
+        }
+        return status();
+    }
+
+    public synchronized ProfilingStatus status() {
+        if (recording == null) {
+            return new ProfilingStatus("NONE", null, null, 0, 0);
+        }
+
+        Duration duration = recording.getDuration();
+        return new ProfilingStatus(
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getStopTime(),
+                duration == null ? 0 : duration.toSeconds(),
+                recording.getMaxSize());
+    }
+
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.NEW
+                || recording.getState() == RecordingState.CLOSED) {
+            throw new ProfilingStateException("There is no profiling recording to dump");
+        }
+
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new PaymentsException("Failed to dump the JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS idx_inbox_event_message_id;
+
+CREATE INDEX IF NOT EXISTS idx_inbox_event_received_at ON inbox_event (received_at);
@@ -0,0 +1,9 @@
+ALTER TABLE outbox_event
+    ALTER COLUMN payload TYPE BYTEA USING convert_to(payload::text, 'UTF8'),
+    ADD COLUMN content_type VARCHAR(64) NOT NULL DEFAULT 'application/json',
+    ADD COLUMN schema_version INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE inbox_event
+    ALTER COLUMN payload TYPE BYTEA USING convert_to(payload::text, 'UTF8'),
+    ADD COLUMN content_type VARCHAR(64) NOT NULL DEFAULT 'application/json',
+    ADD COLUMN schema_version INTEGER NOT NULL DEFAULT 1;
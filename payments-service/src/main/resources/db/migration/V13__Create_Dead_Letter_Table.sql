@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS dead_letter (
+    id UUID PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    partition_no INTEGER NOT NULL,
+    record_offset BIGINT NOT NULL,
+    message_key VARCHAR(255),
+    message_id VARCHAR(255),
+    payload BYTEA,
+    content_type VARCHAR(64) NOT NULL DEFAULT 'application/json',
+    schema_version INTEGER NOT NULL DEFAULT 1,
+    exception_class VARCHAR(255),
+    error_message TEXT,
+    failed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    replayed_at TIMESTAMP WITHOUT TIME ZONE,
+    replay_count INTEGER NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_dead_letter_pending ON dead_letter (failed_at) WHERE replayed_at IS NULL;
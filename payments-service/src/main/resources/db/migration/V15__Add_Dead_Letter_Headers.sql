@@ -0,0 +1 @@
+ALTER TABLE dead_letter ADD COLUMN headers BYTEA;
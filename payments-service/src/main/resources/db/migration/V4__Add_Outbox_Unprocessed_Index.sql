@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_outbox_event_unprocessed ON outbox_event (occurred_on) WHERE processed = false;
@@ -0,0 +1,8 @@
+ALTER TABLE account ADD COLUMN IF NOT EXISTS stripe_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS account_stripe (
+    user_id UUID NOT NULL REFERENCES account (user_id),
+    stripe_no INTEGER NOT NULL,
+    balance NUMERIC(19, 2) NOT NULL DEFAULT 0.00,
+    PRIMARY KEY (user_id, stripe_no)
+);
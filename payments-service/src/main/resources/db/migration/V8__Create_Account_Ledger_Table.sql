@@ -0,0 +1,13 @@
+ALTER TABLE account ADD COLUMN IF NOT EXISTS ledger_position BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS account_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES account (user_id),
+    amount NUMERIC(19, 2) NOT NULL,
+    entry_type VARCHAR(32) NOT NULL,
+    reference_id UUID,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_ledger_user_id_id ON account_ledger (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_account_ledger_created_at ON account_ledger (created_at);
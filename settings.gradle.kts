@@ -2,3 +2,6 @@ rootProject.name = "JavaPaymentsOrders"
 include("payments-service")
 include("orders-service")
 include("api-gateway")
+include("benchmarks:orders-benchmarks")
+include("benchmarks:payments-benchmarks")
+include("benchmarks:saga-load-test")